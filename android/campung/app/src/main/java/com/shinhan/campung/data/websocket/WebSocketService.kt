@@ -99,8 +99,8 @@ id:sub-$geohash
 ${'\u0000'}"""
         
         try {
-            // 백엔드 정규식 패턴 체크: ^/topic/newpost/[0-9b-hj-km-np-z]{8}$
-            if (!topic.matches(Regex("^/topic/newpost/[0-9b-hj-km-np-z]{8}$"))) {
+            // 백엔드 정규식 패턴 체크: ^/topic/newpost/[0-9b-hj-km-np-z]{5,8}$ (5~7자리는 줌 아웃용 상위 셀)
+            if (!topic.matches(Regex("^/topic/newpost/[0-9b-hj-km-np-z]{5,8}$"))) {
                 Log.e(TAG, "Invalid topic pattern: $topic")
                 return
             }
@@ -158,16 +158,18 @@ ${'\u0000'}"""
                     if (bodyStartIndex > 1) {
                         val body = message.substring(bodyStartIndex).trimEnd('\u0000')
                         Log.d(TAG, "Message body: $body")
-                        val newPostEvent = gson.fromJson(body, NewPostEvent::class.java)
-                        Log.d(TAG, "🔔 Parsed new post event: $newPostEvent")
-                        
-                        // 본인이 작성한 게시글인지 확인
-                        val isOwnPost = newPostEvent.userId == currentUserId
-                        Log.d(TAG, "Is own post? $isOwnPost (author: ${newPostEvent.userId}, current: $currentUserId)")
+                        // 서버는 셀별로 묶은 배열 프레임을 보냄 (이전 형식인 단일 객체도 허용)
+                        val events = if (body.trimStart().startsWith("[")) {
+                            gson.fromJson(body, Array<NewPostEvent>::class.java).toList()
+                        } else {
+                            listOf(gson.fromJson(body, NewPostEvent::class.java))
+                        }
+                        Log.d(TAG, "🔔 Parsed ${events.size} new post event(s)")
                         
-                        // 본인 게시글이 아닐 때만 알림 이벤트 발생
-                        if (!isOwnPost) {
-                            _newPostEvent.value = newPostEvent
+                        // 본인이 작성한 게시글은 제외하고 가장 최근 게시글만 알림 이벤트로 발생
+                        val latestOtherPost = events.lastOrNull { it.userId != currentUserId }
+                        if (latestOtherPost != null) {
+                            _newPostEvent.value = latestOtherPost
                             Log.d(TAG, "✅ Notification will be shown for other user's post")
                         } else {
                             Log.d(TAG, "🚫 Skipping notification for own post")
@@ -0,0 +1,111 @@
+package com.example.campung.geo;
+
+import com.example.campung.global.util.PackedGeohashUtil;
+import com.github.davidmoten.geo.GeoHash;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.LinkedHashSet;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * geohash 문자열 경로(davidmoten) vs long 인코딩 경로 비교
+ * 실행: ./gradlew jmh -Pjmh.includes=GeohashBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class GeohashBenchmark {
+
+    private static final int POINTS = 1024;
+
+    private final double[] lats = new double[POINTS];
+    private final double[] lons = new double[POINTS];
+    private final String[] hashes = new String[POINTS];
+    private final long[] packed = new long[POINTS];
+    private final long[] neighbors = new long[9];
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        // 캠퍼스 주변 좌표
+        Random random = new Random(7);
+        for (int i = 0; i < POINTS; i++) {
+            lats[i] = 36.35 + random.nextDouble() * 0.02;
+            lons[i] = 127.29 + random.nextDouble() * 0.02;
+            hashes[i] = GeoHash.encodeHash(lats[i], lons[i], 8);
+            packed[i] = PackedGeohashUtil.encode(lats[i], lons[i], 8);
+        }
+    }
+
+    private int next() {
+        cursor = (cursor + 1) & (POINTS - 1);
+        return cursor;
+    }
+
+    @Benchmark
+    public String encodeString() {
+        int i = next();
+        return GeoHash.encodeHash(lats[i], lons[i], 8);
+    }
+
+    @Benchmark
+    public long encodePacked() {
+        int i = next();
+        return PackedGeohashUtil.encode(lats[i], lons[i], 8);
+    }
+
+    @Benchmark
+    public Set<String> neighbors3x3String() {
+        // 기존 GeohashService.neighbors3x3 와 같은 방식
+        String hash = hashes[next()];
+        Set<String> set = new LinkedHashSet<>();
+        set.add(hash);
+        set.addAll(GeoHash.neighbours(hash));
+        return set;
+    }
+
+    @Benchmark
+    public int neighbors3x3Packed() {
+        return PackedGeohashUtil.neighbors3x3(packed[next()], neighbors);
+    }
+
+    @Benchmark
+    public void parentCellsString(Blackhole blackhole) {
+        String hash = hashes[next()];
+        for (int precision = 5; precision <= 7; precision++) {
+            blackhole.consume(hash.substring(0, precision));
+        }
+    }
+
+    @Benchmark
+    public void parentCellsPacked(Blackhole blackhole) {
+        long hash = packed[next()];
+        for (int precision = 5; precision <= 7; precision++) {
+            blackhole.consume(PackedGeohashUtil.parent(hash, precision));
+        }
+    }
+
+    @Benchmark
+    public Set<String> coverRadiusString() {
+        int i = next();
+        double latDelta = 300 / 111_320.0;
+        double lngDelta = latDelta / Math.cos(Math.toRadians(lats[i]));
+        return GeoHash.coverBoundingBox(lats[i] + latDelta, lons[i] - lngDelta,
+                lats[i] - latDelta, lons[i] + lngDelta, 7).getHashes();
+    }
+
+    @Benchmark
+    public long[] coverRadiusPacked() {
+        int i = next();
+        return PackedGeohashUtil.coverRadius(lats[i], lons[i], 300, 7);
+    }
+}
@@ -18,4 +18,10 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
     
     @Query("SELECT COUNT(c) FROM Comment c WHERE c.content.contentId = :contentId")
     int countByContentId(@Param("contentId") Long contentId);
-}
\ No newline at end of file
+    
+    /**
+     * 카운터 정합성 점검용 게시글별 댓글 수 (contentId, count)
+     */
+    @Query("SELECT c.content.contentId, COUNT(c) FROM Comment c GROUP BY c.content.contentId")
+    List<Object[]> countGroupByContentId();
+}
@@ -4,10 +4,17 @@ import com.example.campung.comment.dto.CommentCreateRequest;
 import com.example.campung.comment.dto.CommentCreateResponse;
 import com.example.campung.comment.repository.CommentRepository;
 import com.example.campung.content.repository.ContentRepository;
+import com.example.campung.content.service.ContentCounterService;
+import com.example.campung.content.service.ContentCounterService.CounterType;
+import com.example.campung.content.service.ContentHotService;
+import com.example.campung.content.service.ContentHotTrackingService;
 import com.example.campung.content.service.S3Service;
 import com.example.campung.global.exception.ContentNotFoundException;
+import com.example.campung.global.util.AfterCommitUtil;
 import com.example.campung.user.repository.UserRepository;
 import com.example.campung.notification.service.NotificationService;
+import com.example.campung.notification.service.ReactionEventPublisher;
+import com.example.campung.main.service.MapContentIndex;
 import com.example.campung.entity.Comment;
 import com.example.campung.entity.Content;
 import com.example.campung.entity.User;
@@ -35,6 +42,21 @@ public class CommentService {
     @Autowired
     private NotificationService notificationService;
     
+    @Autowired
+    private MapContentIndex mapContentIndex;
+    
+    @Autowired
+    private ReactionEventPublisher reactionEventPublisher;
+    
+    @Autowired
+    private ContentHotTrackingService contentHotTrackingService;
+    
+    @Autowired
+    private ContentHotService contentHotService;
+    
+    @Autowired
+    private ContentCounterService contentCounterService;
+    
     @Transactional
     public CommentCreateResponse createComment(Long contentId, CommentCreateRequest request, String accessToken) throws IOException {
         System.out.println("=== 댓글 작성 시작 ===");
@@ -92,6 +114,19 @@ public class CommentService {
         System.out.println("=== 댓글 저장 완료 ===");
         System.out.println("저장된 댓글 ID: " + savedComment.getCommentId());
         
+        // 커밋 후 댓글 수 카운터 증가 (DB 컬럼은 주기적으로 배치 반영) 후 지도/상세 화면 구독자에게 실시간 전송
+        AfterCommitUtil.run(() -> {
+            int totalComments = contentCounterService.increment(contentId, CounterType.COMMENT, 1);
+            mapContentIndex.updateCommentCount(contentId, totalComments);
+            if (content.getLatitude() != null && content.getLongitude() != null) {
+                reactionEventPublisher.publishCommentCount(contentId,
+                        content.getLatitude().doubleValue(), content.getLongitude().doubleValue(), totalComments);
+            }
+        });
+        
+        // HOT 감쇠 점수에 댓글 반영 (커밋 후 실행 - 롤백된 댓글이 점수에 남지 않도록)
+        AfterCommitUtil.run(() -> contentHotService.applyHotChanges(contentHotTrackingService.trackComment(content)));
+        
         // 댓글 알림 전송 (본인이 작성한 게시글이 아닌 경우에만)
         if (!content.getAuthor().getUserId().equals(accessToken)) {
             sendCommentNotification(content, author);
@@ -0,0 +1,32 @@
+package com.example.campung.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 지도 조회 분기(콘텐츠/녹음파일/온도) 동시 실행용 스레드 풀
+ * 큐가 가득 차면 작업을 거절 (요청 스레드에서 실행하면 분기 타임아웃이 적용되지 않으므로)
+ * 거절된 분기는 호출 측에서 기본값으로 대체
+ */
+@Configuration
+public class MapQueryExecutorConfig {
+
+    @Bean(name = "mapQueryExecutor")
+    public ThreadPoolTaskExecutor mapQueryExecutor(
+            @Value("${app.map.query.pool-size:8}") int poolSize,
+            @Value("${app.map.query.max-pool-size:16}") int maxPoolSize,
+            @Value("${app.map.query.queue-capacity:100}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(maxPoolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("map-query-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.campung.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 게시글 첨부파일 S3 업로드/썸네일 생성 동시 실행용 스레드 풀
+ * 큐가 가득 차면 요청 스레드에서 직접 실행하여 업로드를 버리지 않음
+ */
+@Configuration
+public class MediaUploadExecutorConfig {
+
+    @Bean(name = "mediaUploadExecutor")
+    public ThreadPoolTaskExecutor mediaUploadExecutor(
+            @Value("${app.media.upload.pool-size:4}") int poolSize,
+            @Value("${app.media.upload.max-pool-size:8}") int maxPoolSize,
+            @Value("${app.media.upload.queue-capacity:50}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(maxPoolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("media-upload-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+        return executor;
+    }
+}
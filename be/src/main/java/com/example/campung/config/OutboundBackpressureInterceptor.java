@@ -0,0 +1,311 @@
+package com.example.campung.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+import org.springframework.web.socket.handler.WebSocketSessionDecorator;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 세션별 아웃바운드 흐름 제어 (clientOutboundChannel)
+ * 소켓 쓰기가 slow-send-threshold-ms 이상 끝나지 않는 세션은 느린 세션으로 보고,
+ * 이후 메시지를 스프링 전송 버퍼(send-buffer-size-limit) 대신 세션별 대기열에 보관했다가
+ * 쓰기가 끝날 때마다 하나씩 내보냄 → 느린 단말 하나 때문에 버퍼가 차서 끊기거나 전송 스레드가 묶이지 않도록 함
+ *
+ * 대기열 초과 정책
+ * - keep-latest-prefixes 에 해당하는 토픽(반응 수, 캠퍼스 날씨 등 누적값): 목적지별 마지막 메시지만 유지
+ * - 그 외(새 게시글 등): 가장 오래된 메시지부터 버림
+ *
+ * 대기열로 전환된 세션은 스프링 데코레이터에 다음 전송이 가지 않아 send-time-limit 검사가 일어나지 않으므로
+ * 소켓 쓰기가 send-time-limit-ms 이상 끝나지 않으면 여기서 SESSION_NOT_RELIABLE 로 세션을 닫음
+ */
+@Slf4j
+@Component
+public class OutboundBackpressureInterceptor implements ChannelInterceptor {
+
+    enum OverflowPolicy { DROP_OLDEST, KEEP_LATEST }
+
+    // 대기열에서 꺼낸 메시지를 다시 보낼 때는 preSend 판단을 건너뜀
+    private static final ThreadLocal<Boolean> RELEASING = ThreadLocal.withInitial(() -> false);
+
+    private final MeterRegistry meterRegistry;
+    private final long slowSendThresholdMs;
+    private final long sendTimeLimitMs;
+    private final int maxPending;
+    private final List<String> keepLatestPrefixes;
+    private final DistributionSummary depthSummary;
+
+    private final Map<String, SessionState> sessions = new ConcurrentHashMap<>();
+    private volatile MessageChannel clientOutboundChannel;
+
+    public OutboundBackpressureInterceptor(
+            MeterRegistry meterRegistry,
+            @Value("${app.ws.outbound.slow-send-threshold-ms:1000}") long slowSendThresholdMs,
+            @Value("${app.ws.outbound.send-time-limit-ms:10000}") long sendTimeLimitMs,
+            @Value("${app.ws.outbound.max-pending:100}") int maxPending,
+            @Value("${app.ws.outbound.keep-latest-prefixes:/topic/content/,/topic/reaction/,/topic/campus/}")
+            List<String> keepLatestPrefixes) {
+        this.meterRegistry = meterRegistry;
+        this.slowSendThresholdMs = slowSendThresholdMs;
+        this.sendTimeLimitMs = sendTimeLimitMs;
+        this.maxPending = maxPending;
+        this.keepLatestPrefixes = List.copyOf(keepLatestPrefixes);
+        this.depthSummary = DistributionSummary.builder("ws.outbound.session.depth")
+                .description("대기열에 쌓일 때의 세션별 대기 메시지 수")
+                .register(meterRegistry);
+
+        Gauge.builder("ws.outbound.pending", sessions, states -> states.values().stream()
+                        .mapToInt(SessionState::pendingSize).sum())
+                .register(meterRegistry);
+        Gauge.builder("ws.outbound.sessions.backlogged", sessions, states -> states.values().stream()
+                        .filter(state -> state.pendingSize() > 0).count())
+                .register(meterRegistry);
+    }
+
+    /**
+     * 소켓 쓰기 시간을 추적하도록 세션을 감싸는 핸들러 데코레이터
+     */
+    public WebSocketHandler decorate(WebSocketHandler handler) {
+        return new WebSocketHandlerDecorator(handler) {
+            @Override
+            public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+                super.afterConnectionEstablished(new SendTrackingSession(session));
+            }
+        };
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        if (RELEASING.get()) {
+            return message;
+        }
+        clientOutboundChannel = channel;
+
+        String destination = SimpMessageHeaderAccessor.getDestination(message.getHeaders());
+        if (SimpMessageHeaderAccessor.getMessageType(message.getHeaders()) != SimpMessageType.MESSAGE
+                || destination == null) {
+            // CONNECTED, RECEIPT, ERROR 등 제어 프레임은 그대로 전송
+            return message;
+        }
+        SessionState state = sessions.get(SimpMessageHeaderAccessor.getSessionId(message.getHeaders()));
+        if (state == null) {
+            return message;
+        }
+
+        synchronized (state) {
+            long now = System.currentTimeMillis();
+            if (state.isSlow(now, sendTimeLimitMs)) {
+                // 쓰기가 멈춘 세션은 닫고 이후 메시지는 버림 (닫기는 한 번만)
+                if (state.closing) {
+                    return null;
+                }
+                state.closing = true;
+            } else {
+                // 대기 중인 메시지가 있으면 순서 유지를 위해 뒤에 줄 세움
+                if (state.isSlow(now, slowSendThresholdMs) || state.pendingSize() > 0) {
+                    enqueue(state, destination, message);
+                    return null;
+                }
+                return message;
+            }
+        }
+        closeStalled(state);
+        return null;
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        SessionState state = sessions.remove(event.getSessionId());
+        CloseStatus status = event.getCloseStatus();
+
+        // 전송 버퍼/시간 한도 초과로 끊긴 세션은 SESSION_NOT_RELIABLE 로 종료됨
+        boolean closedAsSlow = false;
+        if (state != null) {
+            synchronized (state) {
+                closedAsSlow = state.closing;
+            }
+        }
+        String reason = closedAsSlow || CloseStatus.SESSION_NOT_RELIABLE.equals(status) ? "slow_consumer" : "closed";
+        meterRegistry.counter("ws.session.disconnect", "reason", reason).increment();
+
+        if (state == null) {
+            return;
+        }
+        synchronized (state) {
+            if (state.dropped > 0 || "slow_consumer".equals(reason)) {
+                log.warn("느린 WebSocket 세션 종료: session={}, reason={}, dropped={}, pending={}",
+                        state.sessionId, reason, state.dropped, state.pendingSize());
+            }
+        }
+    }
+
+    /**
+     * 세션별 대기 메시지 수 (운영 점검용)
+     */
+    public Map<String, Integer> pendingBySession() {
+        Map<String, Integer> result = new LinkedHashMap<>();
+        for (SessionState state : new ArrayList<>(sessions.values())) {
+            synchronized (state) {
+                result.put(state.sessionId, state.pendingSize());
+            }
+        }
+        return result;
+    }
+
+    OverflowPolicy policyFor(String destination) {
+        for (String prefix : keepLatestPrefixes) {
+            if (destination.startsWith(prefix)) {
+                return OverflowPolicy.KEEP_LATEST;
+            }
+        }
+        return OverflowPolicy.DROP_OLDEST;
+    }
+
+    private void enqueue(SessionState state, String destination, Message<?> message) {
+        if (policyFor(destination) == OverflowPolicy.KEEP_LATEST) {
+            // 누적값은 같은 목적지의 이전 메시지를 대체
+            if (state.latest.remove(destination) != null) {
+                drop(state, OverflowPolicy.KEEP_LATEST);
+            }
+            state.latest.put(destination, message);
+            if (state.latest.size() > maxPending) {
+                Iterator<Message<?>> oldest = state.latest.values().iterator();
+                oldest.next();
+                oldest.remove();
+                drop(state, OverflowPolicy.KEEP_LATEST);
+            }
+        } else {
+            state.queue.addLast(message);
+            if (state.queue.size() > maxPending) {
+                state.queue.pollFirst();
+                drop(state, OverflowPolicy.DROP_OLDEST);
+            }
+        }
+        depthSummary.record(state.pendingSize());
+    }
+
+    private void drop(SessionState state, OverflowPolicy policy) {
+        if (state.dropped++ == 0) {
+            log.warn("WebSocket 세션 전송 지연으로 메시지 버림 시작: session={}, policy={}", state.sessionId, policy);
+        }
+        meterRegistry.counter("ws.outbound.dropped", "policy", policy.name().toLowerCase()).increment();
+    }
+
+    private void closeStalled(SessionState state) {
+        log.warn("WebSocket 소켓 쓰기가 {}ms 이상 멈춰 세션 종료: session={}", sendTimeLimitMs, state.sessionId);
+        try {
+            state.session.close(CloseStatus.SESSION_NOT_RELIABLE);
+        } catch (IOException e) {
+            log.warn("느린 WebSocket 세션 종료 실패: session={}, error={}", state.sessionId, e.getMessage());
+        }
+    }
+
+    /**
+     * 소켓 쓰기가 끝나면 대기열의 다음 메시지를 하나 내보냄
+     * (내보낸 메시지의 쓰기가 끝나면 다시 호출되므로 대기열이 순서대로 비워짐)
+     */
+    private void releaseNext(SessionState state) {
+        Message<?> next;
+        synchronized (state) {
+            next = state.poll();
+        }
+        MessageChannel channel = clientOutboundChannel;
+        if (next == null || channel == null) {
+            return;
+        }
+        RELEASING.set(true);
+        try {
+            channel.send(next);
+        } finally {
+            RELEASING.set(false);
+        }
+    }
+
+    private final class SendTrackingSession extends WebSocketSessionDecorator {
+
+        private final SessionState state;
+
+        private SendTrackingSession(WebSocketSession session) {
+            super(session);
+            this.state = sessions.computeIfAbsent(session.getId(), SessionState::new);
+            synchronized (state) {
+                state.session = session;
+            }
+        }
+
+        @Override
+        public void sendMessage(WebSocketMessage<?> message) throws IOException {
+            synchronized (state) {
+                state.sendStartedAt = System.currentTimeMillis();
+            }
+            try {
+                super.sendMessage(message);
+            } finally {
+                synchronized (state) {
+                    state.sendStartedAt = 0;
+                }
+                releaseNext(state);
+            }
+        }
+    }
+
+    private static final class SessionState {
+        private final String sessionId;
+        // 아래 필드는 모두 this 로 동기화
+        private WebSocketSession session;
+        private long sendStartedAt;
+        private long dropped;
+        private boolean closing;
+        private final Deque<Message<?>> queue = new ArrayDeque<>();
+        private final LinkedHashMap<String, Message<?>> latest = new LinkedHashMap<>();
+
+        private SessionState(String sessionId) {
+            this.sessionId = sessionId;
+        }
+
+        private boolean isSlow(long now, long thresholdMs) {
+            return sendStartedAt != 0 && now - sendStartedAt >= thresholdMs;
+        }
+
+        private Message<?> poll() {
+            Message<?> next = queue.pollFirst();
+            if (next != null) {
+                return next;
+            }
+            Iterator<Message<?>> iterator = latest.values().iterator();
+            if (iterator.hasNext()) {
+                next = iterator.next();
+                iterator.remove();
+            }
+            return next;
+        }
+
+        private int pendingSize() {
+            return queue.size() + latest.size();
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.campung.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+/**
+ * 스케줄러 스레드 풀 분리
+ * - taskScheduler: 일반 @Scheduled 작업 (GPT 요약/감정 분석, HOT 재평가, 카운터 반영 등)
+ * - realtimeFlushScheduler: WebSocket 이벤트 묶음 전송 전용 (200ms/500ms 주기)
+ * 기본 스케줄러는 스레드가 1개라 GPT 호출처럼 오래 걸리는 작업이 실시간 전송 주기를 막지 않도록 분리
+ */
+@Configuration
+public class SchedulerConfig {
+
+    @Bean(name = "taskScheduler")
+    public ThreadPoolTaskScheduler taskScheduler(
+            @Value("${app.scheduling.pool-size:4}") int poolSize) {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(poolSize);
+        scheduler.setThreadNamePrefix("scheduling-");
+        scheduler.initialize();
+        return scheduler;
+    }
+
+    @Bean(name = "realtimeFlushScheduler")
+    public ThreadPoolTaskScheduler realtimeFlushScheduler(
+            @Value("${app.ws.flush-scheduler.pool-size:2}") int poolSize) {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(poolSize);
+        scheduler.setThreadNamePrefix("ws-flush-");
+        scheduler.initialize();
+        return scheduler;
+    }
+}
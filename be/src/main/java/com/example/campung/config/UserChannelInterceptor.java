@@ -14,7 +14,9 @@ import java.util.regex.Pattern;
 @Component
 public class UserChannelInterceptor implements ChannelInterceptor {
 
-    private static final Pattern TOPIC_PATTERN = Pattern.compile("^/topic/newpost/[0-9b-hj-km-np-z]{8}$");
+    // 새 게시글(셀), 반응 수(셀 / 게시글 상세), 캠퍼스 날씨 토픽만 구독 허용
+    private static final Pattern TOPIC_PATTERN = Pattern.compile(
+            "^/topic/(newpost/[0-9b-hj-km-np-z]{5,8}|reaction/[0-9b-hj-km-np-z]{6}|content/\\d+|campus/climate)$");
 
     @Override
     public Message<?> preSend(Message<?> message, MessageChannel channel) {
@@ -1,6 +1,7 @@
 package com.example.campung.config;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
@@ -15,6 +16,10 @@ import org.springframework.web.socket.config.annotation.WebSocketTransportRegist
 public class WsConfig implements WebSocketMessageBrokerConfigurer {
     
     private final UserChannelInterceptor userChannelInterceptor;
+    private final OutboundBackpressureInterceptor outboundBackpressureInterceptor;
+
+    @Value("${app.ws.outbound.send-time-limit-ms:10000}")
+    private int sendTimeLimitMs;
 
     @Override
     public void registerStompEndpoints(StompEndpointRegistry registry) {
@@ -31,7 +36,9 @@ public class WsConfig implements WebSocketMessageBrokerConfigurer {
     public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
         registration.setMessageSizeLimit(64 * 1024)
                    .setSendBufferSizeLimit(512 * 1024)
-                   .setSendTimeLimit(10_000);
+                   .setSendTimeLimit(sendTimeLimitMs)
+                   // 소켓 쓰기 시간 추적 (느린 세션 판별용)
+                   .addDecoratorFactory(outboundBackpressureInterceptor::decorate);
     }
 
     @Override
@@ -39,4 +46,10 @@ public class WsConfig implements WebSocketMessageBrokerConfigurer {
         registration.interceptors(userChannelInterceptor);
     }
 
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        // 느린 세션은 세션별 대기열에서 정책(drop-oldest / keep-latest)에 따라 정리
+        registration.interceptors(outboundBackpressureInterceptor);
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,46 @@
+package com.example.campung.config;
+
+import com.example.campung.notification.relay.ClusterMessageTransport;
+import com.example.campung.notification.relay.LocalClusterMessageTransport;
+import com.example.campung.notification.relay.RedisClusterMessageTransport;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * WebSocket 노드 간 중계 설정
+ * app.ws.relay.enabled=true 이면 Redis pub/sub으로 중계, 아니면 단일 노드로 동작
+ */
+@Configuration
+public class WsRelayConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "app.ws.relay.enabled", havingValue = "true")
+    public RedisMessageListenerContainer wsRelayListenerContainer(RedisConnectionFactory connectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        return container;
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "app.ws.relay.enabled", havingValue = "true")
+    public ClusterMessageTransport redisClusterMessageTransport(
+            StringRedisTemplate stringRedisTemplate,
+            RedisMessageListenerContainer wsRelayListenerContainer,
+            ObjectMapper objectMapper,
+            @Value("${app.ws.relay.channel:" + RedisClusterMessageTransport.DEFAULT_CHANNEL + "}") String channel) {
+        return new RedisClusterMessageTransport(stringRedisTemplate, wsRelayListenerContainer, objectMapper, channel);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(ClusterMessageTransport.class)
+    public ClusterMessageTransport localClusterMessageTransport() {
+        return new LocalClusterMessageTransport();
+    }
+}
@@ -217,13 +217,35 @@ public class ContentController {
         return ResponseEntity.ok(response);
     }
     
+    @Operation(summary = "내 주변 인기 게시글 조회", description = "현재 위치 반경 또는 랜드마크 안에서 오늘 반응이 많은 게시글을 조회합니다.")
+    @GetMapping("/contents/hot/nearby")
+    public ResponseEntity<ContentHotResponse> getNearbyHotContents(
+            @RequestParam(required = false) Double lat,
+            @RequestParam(required = false) Double lng,
+            @RequestParam(defaultValue = "500") Integer radius,
+            @RequestParam(required = false) Long landmarkId) {
+        
+        if (landmarkId == null && (lat == null || lng == null)) {
+            ContentHotResponse errorResponse = new ContentHotResponse(false, "위치 또는 랜드마크를 입력해주세요");
+            return ResponseEntity.status(400).body(errorResponse);
+        }
+        
+        if (radius == null || radius <= 0) {
+            ContentHotResponse errorResponse = new ContentHotResponse(false, "반경은 0보다 커야 합니다");
+            return ResponseEntity.status(400).body(errorResponse);
+        }
+        
+        ContentHotResponse response = contentHotService.getNearbyHotContents(lat, lng, radius, landmarkId);
+        return ResponseEntity.ok(response);
+    }
+    
     @Operation(summary = "인기 게시글 새로고침", description = "인기 게시글 목록을 수동으로 새로고침합니다.")
     @PostMapping("/contents/hot/refresh")
     public ResponseEntity<Map<String, Object>> refreshHotContent() {
         Map<String, Object> response = new HashMap<>();
         
         try {
-            contentHotService.updateHotContent();
+            contentHotService.resyncHotRanking();
             response.put("success", true);
             response.put("message", "인기 게시글이 성공적으로 새로고침되었습니다.");
             return ResponseEntity.ok(response);
@@ -0,0 +1,9 @@
+package com.example.campung.content.dto;
+
+/**
+ * 게시글 카운터 현재 값 (DB 반영 전 증감 포함)
+ */
+public record ContentCounts(int likeCount, int commentCount, int viewCount) {
+
+    public static final ContentCounts EMPTY = new ContentCounts(0, 0, 0);
+}
@@ -16,6 +16,7 @@ public class ContentDetailRequest {
     private boolean isHotContent;
     private LikeInfo likeInfo;
     private int commentCount;
+    private int viewCount;
     private String createdAt;
     
     public static class AuthorInfo {
@@ -126,6 +127,8 @@ public class ContentDetailRequest {
     public void setLikeInfo(LikeInfo likeInfo) { this.likeInfo = likeInfo; }
     public int getCommentCount() { return commentCount; }
     public void setCommentCount(int commentCount) { this.commentCount = commentCount; }
+    public int getViewCount() { return viewCount; }
+    public void setViewCount(int viewCount) { this.viewCount = viewCount; }
     public String getCreatedAt() { return createdAt; }
     public void setCreatedAt(String createdAt) { this.createdAt = createdAt; }
 }
\ No newline at end of file
@@ -2,8 +2,10 @@ package com.example.campung.content.repository;
 
 import com.example.campung.entity.ContentHot;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,4 +19,9 @@ public interface ContentHotRepository extends JpaRepository<ContentHot, Long> {
     void deleteByContentId(Long contentId);
     
     Optional<ContentHot> findByContentId(Long contentId);
+    
+    List<ContentHot> findByContentIdIn(Collection<Long> contentIds);
+    
+    @Query("SELECT ch.contentId FROM ContentHot ch")
+    List<Long> findAllContentIds();
 }
\ No newline at end of file
@@ -2,6 +2,7 @@ package com.example.campung.content.repository;
 
 import com.example.campung.entity.ContentLike;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -18,11 +19,47 @@ public interface ContentLikeRepository extends JpaRepository<ContentLike, Long>
     @Query("SELECT COUNT(cl) FROM ContentLike cl WHERE cl.content.contentId = :contentId")
     int countByContentId(@Param("contentId") Long contentId);
     
+    /**
+     * 카운터 정합성 점검용 게시글별 좋아요 수 (contentId, count)
+     */
+    @Query("SELECT cl.content.contentId, COUNT(cl) FROM ContentLike cl GROUP BY cl.content.contentId")
+    List<Object[]> countGroupByContentId();
+    
     boolean existsByContentContentIdAndUserUserId(Long contentId, String userId);
     
+    /**
+     * 좋아요 누른 시각만 조회 (취소 시 HOT 버킷 차감용)
+     */
+    @Query("SELECT cl.createdAt FROM ContentLike cl WHERE cl.content.contentId = :contentId AND cl.user.id = :userPk")
+    Optional<LocalDateTime> findLikedAt(@Param("contentId") Long contentId, @Param("userPk") Long userPk);
+    
+    /**
+     * 좋아요 취소 - 삭제된 행 수(0 또는 1)로 실제 취소 여부 판단
+     */
+    @Modifying
+    @Query(value = "DELETE FROM content_like WHERE content_id = :contentId AND user_id = :userPk", nativeQuery = true)
+    int deleteLike(@Param("contentId") Long contentId, @Param("userPk") Long userPk);
+    
+    /**
+     * 좋아요 추가 - (content_id, user_id) 유니크 키에 걸리면 무시되고 0 반환
+     */
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO content_like (content_id, user_id, created_at) VALUES (:contentId, :userPk, :createdAt)",
+           nativeQuery = true)
+    int insertLikeIfAbsent(@Param("contentId") Long contentId, @Param("userPk") Long userPk,
+                           @Param("createdAt") LocalDateTime createdAt);
+    
     @Query("SELECT cl FROM ContentLike cl WHERE cl.createdAt >= :since")
     List<ContentLike> findAllSince(@Param("since") LocalDateTime since);
     
+    /**
+     * 좋아요 카운터 재구성용 (contentId, createdAt, latitude, longitude) 행만 조회 - 연관 엔티티 로딩 없음
+     * 게시글 위치는 영역(셀/랜드마크) 랭킹 키 복원에 사용
+     */
+    @Query("SELECT cl.content.contentId, cl.createdAt, cl.content.latitude, cl.content.longitude "
+            + "FROM ContentLike cl WHERE cl.createdAt >= :since")
+    List<Object[]> findContentIdAndCreatedAtSince(@Param("since") LocalDateTime since);
+    
     @Query("SELECT cl FROM ContentLike cl WHERE cl.content.contentId = :contentId AND cl.createdAt >= :since")
     List<ContentLike> findByContentIdSince(@Param("contentId") Long contentId, @Param("since") LocalDateTime since);
 }
\ No newline at end of file
@@ -2,6 +2,8 @@ package com.example.campung.content.repository;
 
 import com.example.campung.entity.Content;
 import com.example.campung.global.enums.PostType;
+import com.example.campung.global.util.GeoDistanceUtil;
+import com.example.campung.main.dto.MapContentRow;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -11,6 +13,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -29,59 +32,117 @@ public interface ContentRepository extends JpaRepository<Content, Long> {
            "ORDER BY c.createdAt DESC")
     List<Content> findContentsByPostType(@Param("postType") PostType postType);
     
-    @Query("SELECT c FROM Content c WHERE " +
-           "c.latitude BETWEEN :minLat AND :maxLat AND " +
-           "c.longitude BETWEEN :minLng AND :maxLng AND " +
-           "c.createdAt BETWEEN :startDate AND :endDate AND " +
-           "c.postType = :postType " +
-           "ORDER BY c.createdAt DESC")
-    List<Content> findByLocationAndDateAndPostType(@Param("minLat") double minLat,
+    /**
+     * 지도 콘텐츠 프로젝션 - 작성자/첨부파일을 한 번의 쿼리로 평탄화하여 조회
+     */
+    String MAP_CONTENT_ROW_SELECT = "SELECT new com.example.campung.main.dto.MapContentRow(" +
+           "c.contentId, a.userId, a.nickname, c.isAnonymous, c.latitude, c.longitude, c.postType, " +
+           "c.title, c.content, c.emotion, c.likeCount, c.commentCount, c.createdAt, at.url, at.thumbnailUrl) " +
+           "FROM Content c JOIN c.author a LEFT JOIN c.attachments at ";
+    
+    String MAP_CONTENT_ROW_ORDER = "ORDER BY c.createdAt DESC, c.contentId, at.idx";
+    
+    /**
+     * 지도 콘텐츠 id 조회 (과거 캠퍼스 날짜) - (created_at, latitude, longitude) 복합 인덱스로
+     * 하루치 범위 안의 사각 영역만 읽은 뒤 구면 거리로 반경 확인
+     * 캠퍼스 전체를 덮는 사각 영역보다 하루 범위가 훨씬 좁으므로 SPATIAL 인덱스(MBRContains)는 쓰지 않음
+     */
+    String MAP_CONTENT_NEARBY_IDS = "SELECT c.content_id FROM content c " +
+           "WHERE c.created_at BETWEEN :startDate AND :endDate " +
+           "AND c.latitude BETWEEN :minLat AND :maxLat " +
+           "AND c.longitude BETWEEN :minLng AND :maxLng " +
+           "AND ST_Distance_Sphere(c.location, ST_GeomFromText(:center)) <= :radiusMeters ";
+    
+    @Query(value = MAP_CONTENT_NEARBY_IDS + "AND c.post_type = :postType", nativeQuery = true)
+    List<Long> findMapContentIdsNearbyAndPostType(@Param("minLat") double minLat,
                                                   @Param("maxLat") double maxLat,
                                                   @Param("minLng") double minLng,
                                                   @Param("maxLng") double maxLng,
+                                                  @Param("center") String center,
+                                                  @Param("radiusMeters") double radiusMeters,
                                                   @Param("startDate") LocalDateTime startDate,
                                                   @Param("endDate") LocalDateTime endDate,
-                                                  @Param("postType") PostType postType);
-
-    @Query("SELECT c FROM Content c WHERE " +
-           "c.latitude BETWEEN :minLat AND :maxLat AND " +
-           "c.longitude BETWEEN :minLng AND :maxLng AND " +
-           "c.createdAt BETWEEN :startDate AND :endDate AND " +
-           "c.isHot = true " +
-           "ORDER BY c.createdAt DESC")
-    List<Content> findByLocationAndDateAndIsHot(@Param("minLat") double minLat,
+                                                  @Param("postType") String postType);
+    
+    @Query(value = MAP_CONTENT_NEARBY_IDS + "AND c.is_hot = 1", nativeQuery = true)
+    List<Long> findMapContentIdsNearbyAndIsHot(@Param("minLat") double minLat,
                                                @Param("maxLat") double maxLat,
                                                @Param("minLng") double minLng,
                                                @Param("maxLng") double maxLng,
+                                               @Param("center") String center,
+                                               @Param("radiusMeters") double radiusMeters,
                                                @Param("startDate") LocalDateTime startDate,
                                                @Param("endDate") LocalDateTime endDate);
     
-    @Query("SELECT c FROM Content c WHERE " +
-           "c.latitude BETWEEN :minLat AND :maxLat AND " +
-           "c.longitude BETWEEN :minLng AND :maxLng AND " +
-           "c.createdAt BETWEEN :startDate AND :endDate " +
-           "ORDER BY c.createdAt DESC")
-    List<Content> findByLocationAndDate(@Param("minLat") double minLat,
+    @Query(value = MAP_CONTENT_NEARBY_IDS, nativeQuery = true)
+    List<Long> findMapContentIdsNearby(@Param("minLat") double minLat,
                                        @Param("maxLat") double maxLat,
                                        @Param("minLng") double minLng,
                                        @Param("maxLng") double maxLng,
+                                       @Param("center") String center,
+                                       @Param("radiusMeters") double radiusMeters,
                                        @Param("startDate") LocalDateTime startDate,
                                        @Param("endDate") LocalDateTime endDate);
     
     /**
-     * 랜드마크 주변 게시글 조회 (Haversine 공식 사용)
+     * 지도 콘텐츠 조회 (과거 캠퍼스 날짜) - 반경 내 id 조회 후 작성자/첨부파일을 평탄화한 프로젝션 조회
+     * 결과 건수와 무관하게 SQL 2회 (반경 내 콘텐츠가 없으면 1회)
+     */
+    default List<MapContentRow> findMapRowsNearby(double latitude, double longitude, double radiusMeters,
+                                                  LocalDateTime startDate, LocalDateTime endDate,
+                                                  PostType postType) {
+        GeoDistanceUtil.BoundingBox box = GeoDistanceUtil.boundingBox(latitude, longitude, radiusMeters);
+        String center = GeoDistanceUtil.pointWkt(latitude, longitude);
+        List<Long> contentIds;
+        if (postType == PostType.HOT) {
+            // HOT postType 요청 시 isHot = true인 게시글 조회
+            contentIds = findMapContentIdsNearbyAndIsHot(box.minLat(), box.maxLat(), box.minLng(), box.maxLng(),
+                    center, radiusMeters, startDate, endDate);
+        } else if (postType != null) {
+            contentIds = findMapContentIdsNearbyAndPostType(box.minLat(), box.maxLat(), box.minLng(), box.maxLng(),
+                    center, radiusMeters, startDate, endDate, postType.name());
+        } else {
+            contentIds = findMapContentIdsNearby(box.minLat(), box.maxLat(), box.minLng(), box.maxLng(),
+                    center, radiusMeters, startDate, endDate);
+        }
+        return contentIds.isEmpty() ? List.of() : findMapRowsByContentIdIn(contentIds);
+    }
+    
+    @Query(MAP_CONTENT_ROW_SELECT + "WHERE c.contentId IN :contentIds " + MAP_CONTENT_ROW_ORDER)
+    List<MapContentRow> findMapRowsByContentIdIn(@Param("contentIds") Collection<Long> contentIds);
+    
+    /**
+     * 인기 게시글 변환용 - 작성자/첨부파일을 함께 읽어 게시글마다 지연 로딩 쿼리가 나가지 않도록 함
+     * mappedBy 쪽 1:1 연관(contentHot, author.notificationSetting)은 LAZY 여도 행마다 조회되므로 함께 읽음
+     */
+    @Query("SELECT DISTINCT c FROM Content c JOIN FETCH c.author a LEFT JOIN FETCH a.notificationSetting " +
+           "LEFT JOIN FETCH c.attachments LEFT JOIN FETCH c.contentHot WHERE c.contentId IN :contentIds")
+    List<Content> findWithAuthorAndAttachmentsByContentIdIn(@Param("contentIds") Collection<Long> contentIds);
+    
+    /**
+     * 지도 인덱스 구성용 - 캠퍼스 날짜 범위 전체 프로젝션
+     */
+    @Query(MAP_CONTENT_ROW_SELECT + "WHERE " +
+           "c.latitude IS NOT NULL AND c.longitude IS NOT NULL AND " +
+           "c.createdAt BETWEEN :startDate AND :endDate " +
+           MAP_CONTENT_ROW_ORDER)
+    List<MapContentRow> findMapRowsByCreatedAtBetween(@Param("startDate") LocalDateTime startDate,
+                                                     @Param("endDate") LocalDateTime endDate);
+    
+    /**
+     * 랜드마크 주변 게시글 조회 (SPATIAL 인덱스 사각 영역 + 구면 거리)
      */
     @Query(value = """
-        SELECT c.title, c.content, 
-               (6371000 * acos(cos(radians(:latitude)) * cos(radians(CAST(c.latitude AS DOUBLE))) * 
-                              cos(radians(CAST(c.longitude AS DOUBLE)) - radians(:longitude)) + 
-                              sin(radians(:latitude)) * sin(radians(CAST(c.latitude AS DOUBLE))))) AS distance
+        SELECT c.title, c.content,
+               ST_Distance_Sphere(c.location, POINT(:longitude, :latitude)) AS distance
         FROM content c
-        WHERE c.created_at >= DATE_SUB(NOW(), INTERVAL 24 HOUR)
+        WHERE MBRContains(ST_GeomFromText(:envelope), c.location)
+          AND c.created_at >= DATE_SUB(NOW(), INTERVAL 24 HOUR)
         HAVING distance <= :radiusMeters
         ORDER BY c.created_at DESC
         """, nativeQuery = true)
     List<Object[]> findNearbyContents(
+        @Param("envelope") String envelope,
         @Param("latitude") Double latitude,
         @Param("longitude") Double longitude,
         @Param("radiusMeters") Integer radiusMeters
@@ -121,4 +182,16 @@ public interface ContentRepository extends JpaRepository<Content, Long> {
     @Modifying
     @Query("UPDATE Content c SET c.likeCount = :likeCount WHERE c.contentId = :contentId")
     void updateLikeCount(@Param("contentId") Long contentId, @Param("likeCount") int likeCount);
-}
\ No newline at end of file
+    
+    /**
+     * 카운터 캐시 적재용 (contentId, likeCount, commentCount, viewCount)
+     */
+    @Query("SELECT c.contentId, c.likeCount, c.commentCount, c.viewCount FROM Content c WHERE c.contentId IN :contentIds")
+    List<Object[]> findCountersByContentIdIn(@Param("contentIds") Collection<Long> contentIds);
+    
+    /**
+     * 카운터 정합성 점검용 저장된 좋아요/댓글 수 (contentId, likeCount, commentCount)
+     */
+    @Query("SELECT c.contentId, c.likeCount, c.commentCount FROM Content c")
+    List<Object[]> findAllStoredCounters();
+}
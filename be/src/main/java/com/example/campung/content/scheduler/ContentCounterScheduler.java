@@ -0,0 +1,38 @@
+package com.example.campung.content.scheduler;
+
+import com.example.campung.content.service.ContentCounterService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 게시글 카운터 DB 반영 스케줄러
+ * 미반영 증감은 flush-interval-ms 마다 배치 반영, 정합성 보정은 매일 새벽(캠퍼스 날짜 변경 전) 1회
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ContentCounterScheduler {
+
+    private final ContentCounterService contentCounterService;
+
+    @Scheduled(fixedDelayString = "${app.counter.flush-interval-ms:5000}")
+    public void flush() {
+        try {
+            contentCounterService.flush();
+        } catch (Exception e) {
+            // 꺼낸 증감은 Redis 로 되돌려지므로 다음 주기에 재시도
+            log.error("카운터 DB 반영 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    @Scheduled(cron = "${app.counter.reconcile-cron:0 30 4 * * *}")
+    public void reconcile() {
+        try {
+            contentCounterService.reconcile();
+        } catch (Exception e) {
+            log.error("카운터 정합성 보정 실패: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -1,7 +1,10 @@
 package com.example.campung.content.scheduler;
 
 import com.example.campung.content.service.ContentHotService;
+import com.example.campung.content.service.HotAreaRankingService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
@@ -11,14 +14,38 @@ public class ContentHotScheduler {
     @Autowired
     private ContentHotService contentHotService;
     
-    // 매 30분마다 HOT 컨텐츠 업데이트
-    @Scheduled(cron = "0 */30 * * * *")
-    public void updateHotContent() {
+    @Autowired
+    private HotAreaRankingService hotAreaRankingService;
+    
+    // 서버 시작 시 Redis 랭킹 시드(비어 있을 때만) 및 HOT id 스냅샷 로드
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadHotSnapshot() {
+        try {
+            hotAreaRankingService.refreshLandmarks();
+            contentHotService.seedHotRanking();
+            contentHotService.refreshHotSnapshot();
+        } catch (Exception e) {
+            System.err.println("HOT 스냅샷 로드 실패: " + e.getMessage());
+        }
+    }
+    
+    // 매 1분마다 랭킹 게시글 재평가 (HOT 진입/해제는 좋아요 시점에 즉시 반영되고, 여기서는 24시간 창 만료만 처리)
+    @Scheduled(fixedDelay = 60000, initialDelay = 60000)
+    public void reevaluateHotRanking() {
+        try {
+            contentHotService.reevaluateHotRanking();
+        } catch (Exception e) {
+            System.err.println("HOT 랭킹 재평가 실패: " + e.getMessage());
+        }
+    }
+    
+    // 매 10분마다 영역 랭킹용 랜드마크 위치/반경 스냅샷 갱신
+    @Scheduled(fixedDelay = 600000, initialDelay = 600000)
+    public void refreshLandmarkAreas() {
         try {
-            contentHotService.updateHotContent();
-            System.out.println("HOT 컨텐츠 업데이트 완료: " + java.time.LocalDateTime.now());
+            hotAreaRankingService.refreshLandmarks();
         } catch (Exception e) {
-            System.err.println("HOT 컨텐츠 업데이트 실패: " + e.getMessage());
+            System.err.println("HOT 영역 랜드마크 갱신 실패: " + e.getMessage());
         }
     }
-}
\ No newline at end of file
+}
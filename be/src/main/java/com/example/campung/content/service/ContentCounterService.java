@@ -0,0 +1,381 @@
+package com.example.campung.content.service;
+
+import com.example.campung.comment.repository.CommentRepository;
+import com.example.campung.content.dto.ContentCounts;
+import com.example.campung.content.repository.ContentLikeRepository;
+import com.example.campung.content.repository.ContentRepository;
+import com.example.campung.main.dto.MapContentSnapshot;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scripting.support.ResourceScriptSource;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 게시글 좋아요/댓글/조회 수 카운터 (write-behind)
+ * - 쓰기: 샤드별 미반영 증감 해시(content:counts:delta:{contentId % 16})에 HINCRBY,
+ *         현재 값 캐시(content:counts:{id})가 있으면 함께 증감 → 스크립트 한 번
+ * - 읽기: 현재 값 캐시를 파이프라인 HMGET, 없으면 DB 컬럼 + 미반영 증감으로 적재 (집계 쿼리 없음)
+ * - 반영: 주기적으로 샤드를 비우며 꺼낸 증감을 UPDATE ... SET x = x + ? 배치로 DB 에 반영
+ * - 정합성: 좋아요/댓글 행 수와 저장된 컬럼을 비교해 어긋난 게시글만 보정
+ * 반영과 보정은 Redis 잠금(content:counts:lock)으로 노드 간 배타 실행
+ * (보정 중 다른 노드가 증감을 반영하면 보정 값 위에 같은 증감이 한 번 더 더해짐)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ContentCounterService {
+
+    public enum CounterType {
+        LIKE("like"), COMMENT("comment"), VIEW("view");
+
+        private final String field;
+
+        CounterType(String field) {
+            this.field = field;
+        }
+    }
+
+    private static final String COUNTS_KEY_PREFIX = "content:counts:";
+    private static final String DELTA_KEY_PREFIX = "content:counts:delta:";
+    // 쓰기가 몰리는 키를 나누기 위한 미반영 증감 샤드 수
+    private static final int SHARDS = 16;
+    // 현재 값 캐시는 짧게 유지하고 만료 시 DB 값 + 미반영 증감으로 다시 적재
+    private static final Duration COUNTS_TTL = Duration.ofMinutes(10);
+    private static final String LOCK_KEY = "content:counts:lock";
+    // 잠금을 잡은 노드가 비정상 종료돼도 풀리도록 작업별 최대 시간만큼만 유지
+    private static final Duration FLUSH_LOCK_TTL = Duration.ofSeconds(30);
+    private static final Duration RECONCILE_LOCK_TTL = Duration.ofMinutes(10);
+
+    private static final DefaultRedisScript<Long> INCREMENT_SCRIPT =
+            new DefaultRedisScript<>(loadScript("scripts/counter_increment.lua"), Long.class);
+    private static final String LOAD_SCRIPT = loadScript("scripts/counter_load.lua");
+    private static final String DRAIN_SCRIPT = loadScript("scripts/counter_drain.lua");
+    private static final DefaultRedisScript<Long> UNLOCK_SCRIPT =
+            new DefaultRedisScript<>(loadScript("scripts/lock_release.lua"), Long.class);
+
+    private static final String FLUSH_SQL =
+            "UPDATE content SET like_count = like_count + ?, comment_count = comment_count + ?, "
+                    + "view_count = view_count + ? WHERE content_id = ?";
+    private static final String RECONCILE_SQL =
+            "UPDATE content SET like_count = ?, comment_count = ? WHERE content_id = ?";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final JdbcTemplate jdbcTemplate;
+    private final ContentRepository contentRepository;
+    private final ContentLikeRepository contentLikeRepository;
+    private final CommentRepository commentRepository;
+
+    /**
+     * 카운터 증감 후 현재 값 반환
+     */
+    public int increment(Long contentId, CounterType type, int delta) {
+        Long value = stringRedisTemplate.execute(INCREMENT_SCRIPT,
+                List.of(countsKey(contentId), deltaKey(contentId)),
+                type.field, deltaField(contentId, type), Integer.toString(delta));
+        if (value != null) {
+            return value.intValue();
+        }
+        // 캐시가 없으면 방금 증감까지 포함해 적재
+        return valueOf(getCounts(contentId), type);
+    }
+
+    public ContentCounts getCounts(Long contentId) {
+        return getCounts(List.of(contentId)).getOrDefault(contentId, ContentCounts.EMPTY);
+    }
+
+    /**
+     * 여러 게시글의 카운터를 파이프라인 한 번으로 조회 (캐시가 없는 게시글만 DB 에서 id 로 적재)
+     */
+    public Map<Long, ContentCounts> getCounts(Collection<Long> contentIds) {
+        List<Long> ids = new ArrayList<>(new LinkedHashSet<>(contentIds));
+        Map<Long, ContentCounts> counts = new HashMap<>();
+        if (ids.isEmpty()) {
+            return counts;
+        }
+
+        List<Object> cached = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection redis = (StringRedisConnection) connection;
+            for (Long id : ids) {
+                redis.hMGet(countsKey(id), "like", "comment", "view");
+            }
+            return null;
+        });
+
+        List<Long> missing = new ArrayList<>();
+        for (int i = 0; i < ids.size(); i++) {
+            ContentCounts value = toCounts(cached.get(i));
+            if (value != null) {
+                counts.put(ids.get(i), value);
+            } else {
+                missing.add(ids.get(i));
+            }
+        }
+        if (!missing.isEmpty()) {
+            counts.putAll(load(missing));
+        }
+        return counts;
+    }
+
+    /**
+     * 지도 스냅샷(DB 컬럼 기준)의 좋아요/댓글 수를 카운터 현재 값으로 덮어씀
+     */
+    public void applyTo(List<MapContentSnapshot> snapshots) {
+        if (snapshots.isEmpty()) {
+            return;
+        }
+        Map<Long, ContentCounts> counts = getCounts(snapshots.stream().map(MapContentSnapshot::getContentId).toList());
+        for (MapContentSnapshot snapshot : snapshots) {
+            ContentCounts value = counts.get(snapshot.getContentId());
+            if (value != null) {
+                snapshot.setLikeCount(value.likeCount());
+                snapshot.setCommentCount(value.commentCount());
+            }
+        }
+    }
+
+    private Map<Long, ContentCounts> load(List<Long> contentIds) {
+        List<Object[]> rows = contentRepository.findCountersByContentIdIn(contentIds);
+        List<Long> loadedIds = new ArrayList<>(rows.size());
+        List<Object> loaded = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection redis = (StringRedisConnection) connection;
+            for (Object[] row : rows) {
+                Long id = (Long) row[0];
+                loadedIds.add(id);
+                redis.eval(LOAD_SCRIPT, ReturnType.MULTI, 2, countsKey(id), deltaKey(id), id.toString(),
+                        row[1].toString(), row[2].toString(), row[3].toString(),
+                        Long.toString(COUNTS_TTL.getSeconds()));
+            }
+            return null;
+        });
+
+        Map<Long, ContentCounts> counts = new HashMap<>();
+        for (int i = 0; i < loadedIds.size(); i++) {
+            ContentCounts value = toCounts(loaded.get(i));
+            counts.put(loadedIds.get(i), value != null ? value : ContentCounts.EMPTY);
+        }
+        return counts;
+    }
+
+    /**
+     * 미반영 증감을 DB 에 배치로 반영 (DB 반영 실패 시 꺼낸 증감을 되돌려 다음 주기에 재시도)
+     * 다른 노드가 반영/보정 중이면 이번 주기는 건너뜀
+     * @return 갱신한 게시글 수
+     */
+    public int flush() {
+        String token = tryLock(FLUSH_LOCK_TTL);
+        if (token == null) {
+            return 0;
+        }
+        try {
+            return drainAndApply();
+        } finally {
+            unlock(token);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private int drainAndApply() {
+        List<Object> drained = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection redis = (StringRedisConnection) connection;
+            for (int shard = 0; shard < SHARDS; shard++) {
+                redis.eval(DRAIN_SCRIPT, ReturnType.MULTI, 1, DELTA_KEY_PREFIX + shard);
+            }
+            return null;
+        });
+
+        Map<Long, int[]> deltas = new HashMap<>();
+        for (Object shardEntries : drained) {
+            List<Object> entries = (List<Object>) shardEntries;
+            for (int i = 0; i + 1 < entries.size(); i += 2) {
+                String field = toText(entries.get(i));
+                int separator = field.indexOf(':');
+                Long contentId = Long.valueOf(field.substring(0, separator));
+                CounterType type = typeOf(field.substring(separator + 1));
+                deltas.computeIfAbsent(contentId, id -> new int[3])[type.ordinal()]
+                        += Integer.parseInt(toText(entries.get(i + 1)));
+            }
+        }
+        if (deltas.isEmpty()) {
+            return 0;
+        }
+
+        List<Object[]> batchArgs = new ArrayList<>(deltas.size());
+        deltas.forEach((contentId, delta) -> batchArgs.add(new Object[]{delta[0], delta[1], delta[2], contentId}));
+        try {
+            jdbcTemplate.batchUpdate(FLUSH_SQL, batchArgs);
+        } catch (RuntimeException e) {
+            restore(deltas);
+            throw e;
+        }
+        log.debug("카운터 DB 반영: {}개 게시글", deltas.size());
+        return deltas.size();
+    }
+
+    private void restore(Map<Long, int[]> deltas) {
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection redis = (StringRedisConnection) connection;
+            deltas.forEach((contentId, delta) -> {
+                for (CounterType type : CounterType.values()) {
+                    if (delta[type.ordinal()] != 0) {
+                        redis.hIncrBy(deltaKey(contentId), deltaField(contentId, type), delta[type.ordinal()]);
+                    }
+                }
+            });
+            return null;
+        });
+    }
+
+    /**
+     * 좋아요/댓글 행 수 기준으로 저장된 카운터 보정 (조회 수는 원본 행이 없어 대상 아님)
+     * 보정 직전 미반영 증감이 남아 있는 게시글은 이중 반영을 피하기 위해 다음 점검으로 미룸
+     * 잠금을 잡은 한 노드에서만 실행 (잠금 중에는 다른 노드의 반영도 멈춤)
+     * @return 보정한 게시글 수
+     */
+    public int reconcile() {
+        String token = tryLock(RECONCILE_LOCK_TTL);
+        if (token == null) {
+            log.info("카운터 정합성 보정 건너뜀: 다른 노드에서 반영/보정 중");
+            return 0;
+        }
+        try {
+            return reconcileLocked();
+        } finally {
+            unlock(token);
+        }
+    }
+
+    private int reconcileLocked() {
+        drainAndApply();
+
+        Map<Long, int[]> actual = new HashMap<>();
+        for (Object[] row : contentLikeRepository.countGroupByContentId()) {
+            actual.computeIfAbsent((Long) row[0], id -> new int[2])[0] = ((Number) row[1]).intValue();
+        }
+        for (Object[] row : commentRepository.countGroupByContentId()) {
+            actual.computeIfAbsent((Long) row[0], id -> new int[2])[1] = ((Number) row[1]).intValue();
+        }
+
+        Map<Long, int[]> drifted = new HashMap<>();
+        for (Object[] row : contentRepository.findAllStoredCounters()) {
+            Long contentId = (Long) row[0];
+            int[] expected = actual.getOrDefault(contentId, new int[2]);
+            if (expected[0] != ((Number) row[1]).intValue() || expected[1] != ((Number) row[2]).intValue()) {
+                drifted.put(contentId, expected);
+            }
+        }
+        drifted.keySet().removeAll(findPending(drifted.keySet()));
+        if (drifted.isEmpty()) {
+            return 0;
+        }
+
+        List<Object[]> batchArgs = new ArrayList<>(drifted.size());
+        drifted.forEach((contentId, expected) -> batchArgs.add(new Object[]{expected[0], expected[1], contentId}));
+        jdbcTemplate.batchUpdate(RECONCILE_SQL, batchArgs);
+        // 캐시는 지워서 다음 조회 때 보정된 값으로 적재
+        stringRedisTemplate.delete(drifted.keySet().stream().map(ContentCounterService::countsKey).toList());
+
+        log.info("카운터 정합성 보정: {}개 게시글", drifted.size());
+        return drifted.size();
+    }
+
+    private String tryLock(Duration ttl) {
+        String token = UUID.randomUUID().toString();
+        Boolean acquired = stringRedisTemplate.opsForValue().setIfAbsent(LOCK_KEY, token, ttl);
+        return Boolean.TRUE.equals(acquired) ? token : null;
+    }
+
+    private void unlock(String token) {
+        stringRedisTemplate.execute(UNLOCK_SCRIPT, List.of(LOCK_KEY), token);
+    }
+
+    private Set<Long> findPending(Collection<Long> contentIds) {
+        List<Long> ids = new ArrayList<>(contentIds);
+        List<Object> pending = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection redis = (StringRedisConnection) connection;
+            for (Long id : ids) {
+                redis.hMGet(deltaKey(id), deltaField(id, CounterType.LIKE), deltaField(id, CounterType.COMMENT));
+            }
+            return null;
+        });
+        Set<Long> pendingIds = new LinkedHashSet<>();
+        for (int i = 0; i < ids.size(); i++) {
+            for (Object value : (List<?>) pending.get(i)) {
+                if (value != null) {
+                    pendingIds.add(ids.get(i));
+                }
+            }
+        }
+        return pendingIds;
+    }
+
+    private static ContentCounts toCounts(Object result) {
+        if (!(result instanceof List<?> values) || values.size() < 3 || values.get(0) == null) {
+            return null;
+        }
+        return new ContentCounts(toInt(values.get(0)), toInt(values.get(1)), toInt(values.get(2)));
+    }
+
+    private static int valueOf(ContentCounts counts, CounterType type) {
+        return switch (type) {
+            case LIKE -> counts.likeCount();
+            case COMMENT -> counts.commentCount();
+            case VIEW -> counts.viewCount();
+        };
+    }
+
+    private static CounterType typeOf(String field) {
+        for (CounterType type : CounterType.values()) {
+            if (type.field.equals(field)) {
+                return type;
+            }
+        }
+        throw new IllegalArgumentException("알 수 없는 카운터: " + field);
+    }
+
+    private static int toInt(Object value) {
+        return value instanceof Number number ? number.intValue() : Integer.parseInt(toText(value));
+    }
+
+    private static String toText(Object value) {
+        return value instanceof byte[] bytes ? new String(bytes) : value.toString();
+    }
+
+    private static String countsKey(Long contentId) {
+        return COUNTS_KEY_PREFIX + contentId;
+    }
+
+    private static String deltaKey(Long contentId) {
+        return DELTA_KEY_PREFIX + Math.floorMod(contentId, SHARDS);
+    }
+
+    private static String deltaField(Long contentId, CounterType type) {
+        return contentId + ":" + type.field;
+    }
+
+    private static String loadScript(String path) {
+        try {
+            return new ResourceScriptSource(new ClassPathResource(path)).getScriptAsString();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
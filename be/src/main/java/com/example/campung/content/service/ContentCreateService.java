@@ -10,16 +10,25 @@ import com.example.campung.entity.Content;
 import com.example.campung.entity.Attachment;
 import com.example.campung.entity.User;
 import com.example.campung.notification.service.PostEventPublisher;
+import com.example.campung.main.service.MapContentIndex;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
+import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 
 @Slf4j
 @Service
@@ -46,15 +55,82 @@ public class ContentCreateService {
     @Autowired
     private FileSizeValidationService fileSizeValidationService;
     
-    @Transactional
+    @Autowired
+    private MapContentIndex mapContentIndex;
+    
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    
+    // 게시글 저장 전용 트랜잭션 (항상 새 트랜잭션)
+    // 바깥 트랜잭션(예: 테스트 게시글 일괄 생성)에 참여하면 저장 실패가 바깥 전체를 롤백 전용으로 만들고,
+    // 저장 성공 후 바깥이 롤백되면 S3 파일만 남으므로 게시글마다 독립적으로 커밋
+    private TransactionTemplate transactionTemplate;
+    
+    @Autowired
+    @Qualifier("mediaUploadExecutor")
+    private Executor mediaUploadExecutor;
+    
+    @PostConstruct
+    void initTransactionTemplate() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+    
+    /**
+     * 게시글 생성
+     * 첨부파일 업로드/썸네일 생성은 트랜잭션 밖에서 병렬로 처리하고 (업로드 동안 DB 커넥션을 잡지 않음),
+     * 게시글 저장만 트랜잭션으로 묶음. 저장이 실패하면 이미 올린 S3 파일을 삭제
+     */
     public ContentCreateResponse createContent(ContentCreateRequest request, String accessToken) throws IOException {
         log.info("=== CONTENT 생성 시작 ===");
         log.info("accessToken: {}", accessToken);
         log.info("title: {}", request.getTitle());
         
         validateContentRequest(request);
+        
+        List<MultipartFile> files = new ArrayList<>();
+        if (request.getFiles() != null) {
+            for (MultipartFile file : request.getFiles()) {
+                if (!file.isEmpty()) {
+                    // 하나라도 크기 제한을 넘으면 업로드 전에 거절
+                    fileSizeValidationService.validateFileSize(file);
+                    files.add(file);
+                }
+            }
+        }
         log.info("유효성 검증 완료");
         
+        List<UploadedMedia> uploads = uploadMediaFiles(files);
+        
+        Content savedContent;
+        try {
+            savedContent = transactionTemplate.execute(status ->
+                    saveContent(request, accessToken, uploads));
+        } catch (RuntimeException e) {
+            log.error("게시글 저장 실패, 업로드한 파일 정리: {}", e.getMessage());
+            deleteUploadedFiles(uploadedUrls(uploads));
+            throw e;
+        }
+        log.info("=== CONTENT DB 저장 완료 ===");
+        log.info("저장된 Content ID: {}", savedContent.getContentId());
+        
+        // 지도 인덱스 반영
+        mapContentIndex.onContentSaved(savedContent);
+        
+        // 새 게시글 알림 이벤트 발행
+        if (savedContent.getLatitude() != null && savedContent.getLongitude() != null) {
+            double lat = savedContent.getLatitude().doubleValue();
+            double lon = savedContent.getLongitude().doubleValue();
+            postEventPublisher.publishNewPost(savedContent.getContentId(), lat, lon);
+            log.info("=== 새 게시글 이벤트 발행 완료 ===");
+            log.info("좌표: lat={}, lon={}", lat, lon);
+        }
+        
+        return new ContentCreateResponse(true, "게시글이 성공적으로 작성되었습니다", savedContent.getContentId());
+    }
+    
+    // 조회도 트랜잭션 안에서 처리 (open-in-view 세션이 트랜잭션 밖 조회로 잡은 커넥션을 업로드 내내 유지하지 않도록)
+    private Content saveContent(ContentCreateRequest request, String accessToken, List<UploadedMedia> uploads) {
         User author = userRepository.findByUserId(accessToken)
                 .orElseGet(() -> {
                     User newUser = User.builder()
@@ -82,58 +158,109 @@ public class ContentCreateService {
             contentBuilder.latitude(BigDecimal.valueOf(request.getLatitude()))
                          .longitude(BigDecimal.valueOf(request.getLongitude()));
         }
-        log.info("ContentBuilder 설정 완료");
         
         Content content = contentBuilder.build();
         log.info("Content 생성 완료");
         
         List<Attachment> attachments = new ArrayList<>();
-        if (request.getFiles() != null && !request.getFiles().isEmpty()) {
-            log.info("파일 처리 시작: {}개", request.getFiles().size());
-            int index = 1;
-            for (MultipartFile file : request.getFiles()) {
-                if (!file.isEmpty()) {
-                    fileSizeValidationService.validateFileSize(file);
-
-                    String fileUrl = s3Service.uploadFile(file);
-                    String thumbnailUrl = null;
-                    
-                    // 이미지 파일인 경우 썸네일 생성
-                    if (thumbnailService.canGenerateThumbnail(file)) {
-                        thumbnailUrl = generateThumbnailSafely(file);
-                    }
-                    
-                    Attachment attachment = Attachment.builder()
-                            .originalName(file.getOriginalFilename())
-                            .url(fileUrl)
-                            .thumbnailUrl(thumbnailUrl)
-                            .fileSize((int) file.getSize())
-                            .fileType(file.getContentType())
-                            .idx(index++)
-                            .content(content)
-                            .build();
-                    
-                    attachments.add(attachment);
-                }
-            }
+        int index = 1;
+        for (UploadedMedia upload : uploads) {
+            MultipartFile file = upload.file();
+            attachments.add(Attachment.builder()
+                    .originalName(file.getOriginalFilename())
+                    .url(upload.fileUrl())
+                    .thumbnailUrl(upload.thumbnailUrl())
+                    .fileSize((int) file.getSize())
+                    .fileType(file.getContentType())
+                    .idx(index++)
+                    .content(content)
+                    .build());
         }
-        
         content.setAttachments(attachments);
         
-        Content savedContent = contentRepository.save(content);
-        log.info("=== CONTENT DB 저장 완료 ===");
-        log.info("저장된 Content ID: {}", savedContent.getContentId());
+        return contentRepository.save(content);
+    }
+    
+    /**
+     * 원본 업로드와 썸네일 생성/업로드를 파일마다 따로 병렬 실행하고 모두 끝날 때까지 대기
+     * 원본 업로드가 하나라도 실패하면 성공한 업로드를 모두 삭제하고 예외를 그대로 던짐
+     */
+    private List<UploadedMedia> uploadMediaFiles(List<MultipartFile> files) throws IOException {
+        if (files.isEmpty()) {
+            return List.of();
+        }
+        log.info("파일 처리 시작: {}개", files.size());
         
-        // 새 게시글 알림 이벤트 발행
-        if (savedContent.getLatitude() != null && savedContent.getLongitude() != null) {
-            double lat = savedContent.getLatitude().doubleValue();
-            double lon = savedContent.getLongitude().doubleValue();
-            postEventPublisher.publishNewPost(savedContent.getContentId(), lat, lon);
-            log.info("=== 새 게시글 이벤트 발행 완료 ===");
-            log.info("좌표: lat={}, lon={}", lat, lon);
+        List<CompletableFuture<String>> fileFutures = new ArrayList<>();
+        List<CompletableFuture<String>> thumbnailFutures = new ArrayList<>();
+        for (MultipartFile file : files) {
+            fileFutures.add(CompletableFuture.supplyAsync(() -> uploadFile(file), mediaUploadExecutor));
+            // 썸네일 생성 실패는 null 로 처리되어 원본 업로드에 영향 없음
+            thumbnailFutures.add(thumbnailService.canGenerateThumbnail(file)
+                    ? CompletableFuture.supplyAsync(() -> generateThumbnailSafely(file), mediaUploadExecutor)
+                    : CompletableFuture.completedFuture(null));
         }
         
-        return new ContentCreateResponse(true, "게시글이 성공적으로 작성되었습니다", savedContent.getContentId());
+        List<CompletableFuture<String>> all = new ArrayList<>(fileFutures);
+        all.addAll(thumbnailFutures);
+        try {
+            CompletableFuture.allOf(all.toArray(new CompletableFuture[0])).join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            List<String> uploaded = new ArrayList<>();
+            for (CompletableFuture<String> future : all) {
+                if (!future.isCompletedExceptionally() && future.getNow(null) != null) {
+                    uploaded.add(future.getNow(null));
+                }
+            }
+            log.error("파일 업로드 실패, 업로드된 {}개 정리: {}", uploaded.size(), cause.getMessage());
+            deleteUploadedFiles(uploaded);
+            
+            if (cause instanceof UncheckedIOException io) {
+                throw io.getCause();
+            }
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IOException("파일 업로드 실패", cause);
+        }
+        
+        List<UploadedMedia> uploads = new ArrayList<>();
+        for (int i = 0; i < files.size(); i++) {
+            uploads.add(new UploadedMedia(files.get(i), fileFutures.get(i).join(), thumbnailFutures.get(i).join()));
+        }
+        log.info("파일 업로드 완료: {}개", uploads.size());
+        return uploads;
+    }
+    
+    private String uploadFile(MultipartFile file) {
+        try {
+            return s3Service.uploadFile(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+    
+    private static List<String> uploadedUrls(List<UploadedMedia> uploads) {
+        List<String> urls = new ArrayList<>();
+        for (UploadedMedia upload : uploads) {
+            urls.add(upload.fileUrl());
+            if (upload.thumbnailUrl() != null) {
+                urls.add(upload.thumbnailUrl());
+            }
+        }
+        return urls;
+    }
+    
+    // 정리 실패는 원래 예외를 가리지 않도록 로그만 남김
+    private void deleteUploadedFiles(List<String> urls) {
+        for (String url : urls) {
+            try {
+                s3Service.deleteFile(url);
+            } catch (Exception e) {
+                log.warn("S3 파일 정리 실패: {} - {}", url, e.getMessage());
+            }
+        }
     }
     
     private String findNearbyLandmarkName(Double latitude, Double longitude) {
@@ -177,6 +304,9 @@ public class ContentCreateService {
         return thumbnailUrl;
     }
     
+    private record UploadedMedia(MultipartFile file, String fileUrl, String thumbnailUrl) {
+    }
+    
     private void validateContentRequest(ContentCreateRequest request) {
         if (request.getTitle() == null || request.getTitle().trim().isEmpty()) {
             throw new IllegalArgumentException("제목을 입력해주세요");
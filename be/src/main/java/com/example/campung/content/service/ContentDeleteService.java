@@ -5,7 +5,9 @@ import com.example.campung.content.dto.ContentDeleteResponse;
 import com.example.campung.content.repository.ContentRepository;
 import com.example.campung.global.exception.ContentNotFoundException;
 import com.example.campung.global.exception.UnauthorizedException;
+import com.example.campung.global.util.AfterCommitUtil;
 import com.example.campung.entity.Content;
+import com.example.campung.main.service.MapContentIndex;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -16,6 +18,12 @@ public class ContentDeleteService {
     @Autowired
     private ContentRepository contentRepository;
     
+    @Autowired
+    private MapContentIndex mapContentIndex;
+    
+    @Autowired
+    private ContentViewerService contentViewerService;
+    
     @Transactional
     public ContentDeleteResponse deleteContent(Long contentId, String accessToken, ContentDeleteRequest request) {
         System.out.println("=== CONTENT 삭제 시작 ===");
@@ -40,6 +48,11 @@ public class ContentDeleteService {
         // 게시글 삭제 (Cascade로 연관된 Attachment도 자동 삭제됨)
         contentRepository.delete(content);
         
+        // 지도 인덱스 반영
+        mapContentIndex.onContentDeleted(contentId);
+        // 조회자 기록(Redis)도 커밋 이후 삭제 (롤백되면 게시글은 남고 조회수 기록만 사라지는 것을 방지)
+        AfterCommitUtil.run(() -> contentViewerService.deleteViewers(contentId));
+        
         System.out.println("=== CONTENT 삭제 완료 ===");
         System.out.println("삭제된 Content ID: " + contentId);
         
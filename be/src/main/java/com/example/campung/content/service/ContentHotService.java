@@ -1,20 +1,29 @@
 package com.example.campung.content.service;
 
 import com.example.campung.content.repository.ContentRepository;
+import com.example.campung.main.service.MapContentIndex;
+import com.example.campung.main.service.MapIndexRelay;
+import com.example.campung.main.dto.MapIndexEvent;
+import com.example.campung.content.dto.ContentCounts;
 import com.example.campung.content.dto.ContentHotResponse;
 import com.example.campung.entity.Content;
 import com.example.campung.entity.ContentHot;
+import com.example.campung.global.util.AfterCommitUtil;
+import com.example.campung.global.util.GeoDistanceUtil;
 import com.example.campung.content.repository.ContentHotRepository;
+import com.example.campung.content.service.ContentHotTrackingService.HotRankingChange;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.format.DateTimeFormatter;
-import java.time.LocalDateTime;
-import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Set;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -32,123 +41,267 @@ public class ContentHotService {
     @Autowired
     private ContentRepository contentRepository;
     
+    @Autowired
+    private MapContentIndex mapContentIndex;
+    
+    @Autowired
+    private MapIndexRelay mapIndexRelay;
+    
+    @Autowired
+    private HotAreaRankingService hotAreaRankingService;
+    
+    @Autowired
+    private ContentCounterService contentCounterService;
+    
+    @Value("${app.hot.area.min-likes:3}")
+    private long areaMinLikes;
+    
+    // HOT 게시글 id 스냅샷 (정렬된 원시 배열, 변환기에서 쿼리 없이 이진 탐색)
+    private volatile long[] hotContentIds = new long[0];
+    
+    /**
+     * 서버 기동 시 Redis 랭킹이 비어 있으면 DB 좋아요 기록과 현재 HOT 목록으로 한 번만 채움
+     */
+    public void seedHotRanking() {
+        if (contentHotTrackingService.seedIfEmpty(contentHotRepository.findAllContentIds())) {
+            reevaluateHotRanking();
+        }
+    }
+    
+    /**
+     * 수동 새로고침 - DB 좋아요 기록으로 Redis 버킷을 다시 채운 뒤 재평가
+     */
     @Transactional
-    public void updateHotContent() {
-        // 기존 좋아요 데이터를 Redis로 마이그레이션
+    public void resyncHotRanking() {
         contentHotTrackingService.migrateExistingLikesToRedis();
+        reevaluateHotRanking();
+    }
+    
+    /**
+     * 좋아요/취소 스크립트가 판정한 HOT 진입/해제를 content_hot 테이블과 isHot 플래그에 반영
+     * 좋아요/댓글 트랜잭션의 커밋 후 콜백에서 호출되므로 별도 트랜잭션으로 실행
+     * (커밋이 끝난 트랜잭션에 참여하면 변경 내용이 반영되지 않음)
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void applyHotChanges(HotRankingChange change) {
+        for (Long contentId : change.entered()) {
+            long hotScore = contentId.equals(change.contentId())
+                    ? change.likes24h()
+                    : contentHotTrackingService.getLike24hCount(contentId);
+            if (!contentHotRepository.existsByContentId(contentId)) {
+                contentRepository.findById(contentId).ifPresent(content -> {
+                    ContentHot contentHot = ContentHot.builder()
+                            .contentId(contentId)
+                            .content(content)
+                            .hotScore(hotScore)
+                            .build();
+                    contentHotRepository.save(contentHot);
+                    
+                    content.setIsHot(true);
+                    contentRepository.save(content);
+                });
+            }
+        }
+        
+        for (Long contentId : change.exited()) {
+            contentHotRepository.deleteByContentId(contentId);
+            contentRepository.findById(contentId).ifPresent(content -> {
+                content.setIsHot(false);
+                contentRepository.save(content);
+            });
+        }
         
-        // Redis에서 상위 10개 HOT 컨텐츠 가져오기
-        Set<Object> hotContentIds = contentHotTrackingService.getTop10HotContent();
-        
-        // 새로운 HOT 컨텐츠 저장 (중복 체크)
-        for (Object contentIdObj : hotContentIds) {
-            Long contentId = Long.valueOf(contentIdObj.toString());
-            long hotScore = contentHotTrackingService.getLike24hCount(contentId);
-            
-            // 최소 좋아요 수 조건 (예: 5개 이상)
-            if (hotScore >= 5) {
-                // 이미 등록된 핫 게시글인지 확인
-                if (!contentHotRepository.existsByContentId(contentId)) {
-                    contentRepository.findById(contentId).ifPresent(content -> {
-                        ContentHot contentHot = ContentHot.builder()
-                                .contentId(contentId)
-                                .content(content)
-                                .hotScore(hotScore)
-                                .build();
-                        contentHotRepository.save(contentHot);
-                        
-                        // Content의 isHot 플래그를 true로 설정
-                        content.setIsHot(true);
-                        contentRepository.save(content);
-                    });
-                } else {
-                    // 이미 등록된 게시글은 hotScore만 업데이트
-                    contentHotRepository.findByContentId(contentId).ifPresent(existingHot -> {
-                        existingHot.setHotScore(hotScore);
-                        contentHotRepository.save(existingHot);
-                    });
-                }
+        // HOT 유지 중인 게시글은 hotScore만 갱신 (HOT 이 아니면 조회하지 않음)
+        if (!change.entered().contains(change.contentId()) && isHotContent(change.contentId())) {
+            contentHotRepository.findByContentId(change.contentId()).ifPresent(existingHot -> {
+                existingHot.setHotScore(change.likes24h());
+                contentHotRepository.save(existingHot);
+            });
+        }
+        
+        if (change.hasMembershipChange()) {
+            refreshHotSnapshot();
+        }
+    }
+    
+    /**
+     * 랭킹에 오른 게시글의 24시간 좋아요 수를 다시 계산 (좋아요가 창 밖으로 밀려나 HOT 에서 빠지는 경우)
+     */
+    @Transactional
+    public void reevaluateHotRanking() {
+        for (Long contentId : contentHotTrackingService.getRankedContentIds()) {
+            applyHotChanges(contentHotTrackingService.reevaluate(contentId));
+        }
+        refreshHotSnapshot();
+    }
+    
+    /**
+     * content_hot 테이블 기준으로 HOT id 스냅샷 갱신
+     * HOT 목록이 바뀌었으면 커밋 이후 다른 노드도 스냅샷을 다시 읽도록 전파
+     */
+    public void refreshHotSnapshot() {
+        if (reloadHotSnapshot()) {
+            AfterCommitUtil.run(() -> mapIndexRelay.publish(MapIndexEvent.hotChanged()));
+        }
+    }
+    
+    /**
+     * 이 노드의 HOT id 스냅샷만 다시 읽음 (다른 노드에서 HOT 변경을 전파받은 경우)
+     *
+     * @return HOT 목록 변경 여부
+     */
+    public boolean reloadHotSnapshot() {
+        long[] previous = hotContentIds;
+        long[] current = contentHotRepository.findAllContentIds().stream()
+                .mapToLong(Long::longValue)
+                .sorted()
+                .toArray();
+        hotContentIds = current;
+        
+        // HOT 진입/해제된 게시글을 지도 변경 로그에 기록
+        for (long contentId : previous) {
+            if (Arrays.binarySearch(current, contentId) < 0) {
+                mapContentIndex.onHotFlagChanged(contentId);
+            }
+        }
+        for (long contentId : current) {
+            if (Arrays.binarySearch(previous, contentId) < 0) {
+                mapContentIndex.onHotFlagChanged(contentId);
             }
         }
+        return !Arrays.equals(previous, current);
     }
     
     public List<Content> getHotContent() {
-        List<ContentHot> hotContents = contentHotRepository.findTop10ByOrderByHotScoreDesc();
-        return hotContents.stream()
+        return getRankedHotContents().stream()
                 .map(ContentHot::getContent)
                 .collect(Collectors.toList());
     }
     
+    /**
+     * 오늘(캠퍼스 날짜) 감쇠 점수 순으로 정렬된 HOT 게시글
+     */
+    private List<ContentHot> getRankedHotContents() {
+        List<Long> rankedIds = contentHotTrackingService.getHotContentIdsByScore();
+        if (rankedIds.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, ContentHot> hotById = contentHotRepository.findByContentIdIn(rankedIds).stream()
+                .collect(Collectors.toMap(ContentHot::getContentId, Function.identity()));
+        return rankedIds.stream()
+                .map(hotById::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+    
     public boolean isHotContent(Long contentId) {
-        return contentHotRepository.existsByContentId(contentId);
+        return contentId != null && Arrays.binarySearch(hotContentIds, contentId) >= 0;
     }
     
     public ContentHotResponse getHotContents() {
-        List<ContentHot> hotContents = contentHotRepository.findTop10ByOrderByHotScoreDesc();
+        // 캠퍼스 날짜별 점수 랭킹이라 별도 사이클 필터 없이 상위 N개를 그대로 사용
+        List<ContentHot> hotContents = getRankedHotContents();
         
         if (hotContents.isEmpty()) {
             return new ContentHotResponse(true, "현재 인기 게시글이 없습니다.");
         }
         
-        // 현재 캠퍼스 사이클(05시 기준) 내의 HOT 게시글만 필터링
-        LocalDateTime currentCycleStart = getCurrentCycleStart();
+        Map<Long, ContentCounts> counts = contentCounterService.getCounts(hotContents.stream()
+                .map(ContentHot::getContentId)
+                .collect(Collectors.toList()));
         
         List<ContentHotResponse.HotContentItem> hotContentItems = hotContents.stream()
-                .filter(contentHot -> {
-                    LocalDateTime createdAt = contentHot.getContent().getCreatedAt();
-                    return !createdAt.isBefore(currentCycleStart);
-                })
-                .map(contentHot -> {
-                    Content content = contentHot.getContent();
-                    ContentHotResponse.HotContentItem item = new ContentHotResponse.HotContentItem();
-                    
-                    item.setContentId(content.getContentId());
-                    item.setUserId(content.getAuthor() != null ? content.getAuthor().getUserId() : null);
-                    item.setTitle(content.getTitle());
-                    item.setContent(content.getContent());
-                    item.setPostType("HOT");
-                    item.setCreatedAt(content.getCreatedAt().toString());
-                    item.setHotScore(contentHot.getHotScore());
-                    item.setLikeCount(content.getLikeCount());
-                    item.setCommentCount(content.getCommentCount());
-                    item.setBuildingName(content.getBuildingName());
-                    item.setEmotion(content.getEmotion());
-                    item.setThumbnailUrl(content.getAttachments() != null && !content.getAttachments().isEmpty() ? 
-                        content.getAttachments().get(0).getThumbnailUrl() : null);
-                    
-                    String profileImageUrl = content.getAuthor() != null ? content.getAuthor().getProfileImageUrl() : null;
-                    if (profileImageUrl == null || profileImageUrl.trim().isEmpty()) {
-                        profileImageUrl = defaultProfileImageUrl;
-                    }
-                    item.setUserProfileUrl(profileImageUrl);
-                    
-                    ContentHotResponse.AuthorInfo authorInfo = new ContentHotResponse.AuthorInfo();
-                    if (content.getIsAnonymous()) {
-                        authorInfo.setNickname("익명");
-                        authorInfo.setIsAnonymous(true);
-                    } else {
-                        authorInfo.setNickname(content.getAuthor().getNickname());
-                        authorInfo.setIsAnonymous(false);
-                    }
-                    item.setAuthor(authorInfo);
-                    
-                    return item;
-                })
+                .map(contentHot -> toHotContentItem(contentHot.getContent(), contentHot.getHotScore(),
+                        counts.getOrDefault(contentHot.getContentId(), ContentCounts.EMPTY)))
                 .collect(Collectors.toList());
         
         return new ContentHotResponse(true, "인기 게시글 조회 성공", hotContentItems);
     }
     
-    private LocalDateTime getCurrentCycleStart() {
-        LocalDateTime now = LocalDateTime.now();
-        LocalTime fiveAm = LocalTime.of(5, 0);
+    /**
+     * 내 주변(또는 랜드마크) 인기 게시글 - 영역 랭킹의 상위 목록만 병합하므로 content 테이블은 id 로만 조회
+     * (작성자/첨부파일도 같은 쿼리에서 함께 읽음)
+     */
+    public ContentHotResponse getNearbyHotContents(Double lat, Double lng, int radiusMeters, Long landmarkId) {
+        int candidateCount = ContentHotTrackingService.HOT_TOP_N * 3;
+        List<HotAreaRankingService.ScoredContent> candidates = landmarkId != null
+                ? hotAreaRankingService.topInLandmark(landmarkId, candidateCount)
+                : hotAreaRankingService.topNearby(lat, lng, radiusMeters, candidateCount);
+        
+        List<Long> candidateIds = candidates.stream()
+                .map(HotAreaRankingService.ScoredContent::contentId)
+                .collect(Collectors.toList());
+        if (candidateIds.isEmpty()) {
+            return new ContentHotResponse(true, "주변에 인기 게시글이 없습니다.");
+        }
+        Map<Long, Long> likes24h = contentHotTrackingService.getLike24hCounts(candidateIds);
+        Map<Long, Content> contentById = contentRepository.findWithAuthorAndAttachmentsByContentIdIn(candidateIds)
+                .stream()
+                .collect(Collectors.toMap(Content::getContentId, Function.identity()));
+        
+        List<Long> nearbyIds = new ArrayList<>();
+        for (Long contentId : candidateIds) {
+            Content content = contentById.get(contentId);
+            long likes = likes24h.getOrDefault(contentId, 0L);
+            if (content == null || likes < areaMinLikes) {
+                continue;
+            }
+            // 셀은 반경보다 넓게 덮으므로 실제 거리로 한 번 더 확인
+            if (landmarkId == null && (content.getLatitude() == null || GeoDistanceUtil.distanceMeters(lat, lng,
+                    content.getLatitude().doubleValue(), content.getLongitude().doubleValue()) > radiusMeters)) {
+                continue;
+            }
+            nearbyIds.add(contentId);
+            if (nearbyIds.size() >= ContentHotTrackingService.HOT_TOP_N) {
+                break;
+            }
+        }
+        
+        Map<Long, ContentCounts> counts = contentCounterService.getCounts(nearbyIds);
+        List<ContentHotResponse.HotContentItem> items = nearbyIds.stream()
+                .map(contentId -> toHotContentItem(contentById.get(contentId), likes24h.getOrDefault(contentId, 0L),
+                        counts.getOrDefault(contentId, ContentCounts.EMPTY)))
+                .collect(Collectors.toList());
+        
+        if (items.isEmpty()) {
+            return new ContentHotResponse(true, "주변에 인기 게시글이 없습니다.");
+        }
+        return new ContentHotResponse(true, "주변 인기 게시글 조회 성공", items);
+    }
+    
+    private ContentHotResponse.HotContentItem toHotContentItem(Content content, Long hotScore, ContentCounts counts) {
+        ContentHotResponse.HotContentItem item = new ContentHotResponse.HotContentItem();
+        
+        item.setContentId(content.getContentId());
+        item.setUserId(content.getAuthor() != null ? content.getAuthor().getUserId() : null);
+        item.setTitle(content.getTitle());
+        item.setContent(content.getContent());
+        item.setPostType("HOT");
+        item.setCreatedAt(content.getCreatedAt().toString());
+        item.setHotScore(hotScore);
+        item.setLikeCount(counts.likeCount());
+        item.setCommentCount(counts.commentCount());
+        item.setBuildingName(content.getBuildingName());
+        item.setEmotion(content.getEmotion());
+        item.setThumbnailUrl(content.getAttachments() != null && !content.getAttachments().isEmpty() ? 
+            content.getAttachments().get(0).getThumbnailUrl() : null);
         
-        if (now.toLocalTime().isBefore(fiveAm)) {
-            // 현재 시간이 05:00 이전이면 전날 05:00부터
-            return now.minusDays(1).with(fiveAm);
+        String profileImageUrl = content.getAuthor() != null ? content.getAuthor().getProfileImageUrl() : null;
+        if (profileImageUrl == null || profileImageUrl.trim().isEmpty()) {
+            profileImageUrl = defaultProfileImageUrl;
+        }
+        item.setUserProfileUrl(profileImageUrl);
+        
+        ContentHotResponse.AuthorInfo authorInfo = new ContentHotResponse.AuthorInfo();
+        if (content.getIsAnonymous()) {
+            authorInfo.setNickname("익명");
+            authorInfo.setIsAnonymous(true);
         } else {
-            // 현재 시간이 05:00 이후면 당일 05:00부터
-            return now.with(fiveAm);
+            authorInfo.setNickname(content.getAuthor().getNickname());
+            authorInfo.setIsAnonymous(false);
         }
+        item.setAuthor(authorInfo);
+        
+        return item;
     }
 }
\ No newline at end of file
@@ -1,110 +1,349 @@
 package com.example.campung.content.service;
 
 import com.example.campung.content.repository.ContentLikeRepository;
-import com.example.campung.entity.ContentLike;
+import com.example.campung.entity.Content;
+import com.example.campung.global.util.CampusDateUtil;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
 import org.springframework.stereotype.Service;
 
+import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDateTime;
-import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
+/**
+ * 게시글별 최근 24시간 좋아요 수 추적
+ * 게시글마다 15분 단위 버킷 해시(content:likes:buckets:{id}, field = 버킷 번호)에 HINCRBY 로 누적하고,
+ * 24시간 수는 최근 96개 버킷을 HMGET 한 번으로 합산 → 좋아요가 아무리 많아도 키 크기와 연산 비용이 일정
+ *
+ * HOT 순위는 캠퍼스 날짜별 감쇠 점수(좋아요/댓글/고유 조회 가중합, 반감기 적용)로 정하고,
+ * 24시간 좋아요 수는 최소 자격 판정에만 사용 (같은 점수를 셀/랜드마크 영역 랭킹에도 반영)
+ * 좋아요/취소 시 버킷 갱신, 점수 갱신, HOT 진입/해제 판정은 Lua 스크립트(scripts/hot_ranking_update.lua)로 원자적으로 처리
+ */
 @Service
 public class ContentHotTrackingService {
     
     @Autowired
-    private RedisTemplate<String, Object> redisTemplate;
+    private StringRedisTemplate stringRedisTemplate;
     
     @Autowired
     private ContentLikeRepository contentLikeRepository;
     
-    private static final String LIKE_KEY_PREFIX = "content:likes:24h:";
+    @Autowired
+    private HotAreaRankingService hotAreaRankingService;
+    
+    private static final String LIKE_BUCKET_KEY_PREFIX = "content:likes:buckets:";
     private static final String HOT_RANKING_KEY = "hot:content:ranking";
-    private static final long TWENTY_FOUR_HOURS = 24 * 60 * 60; // 24시간 (초)
+    private static final String HOT_MEMBERS_KEY = "hot:content:members";
+    private static final String HOT_SCORE_KEY_PREFIX = "hot:content:score:";
+    public static final int HOT_TOP_N = 10;
+    public static final long HOT_MIN_LIKES = 5;
+    private static final long BUCKET_SECONDS = 15 * 60; // 15분
+    private static final int WINDOW_BUCKETS = 96;       // 24시간 = 96개 버킷
+    // 마지막 버킷이 창 밖으로 밀려날 때까지 키 유지
+    private static final Duration BUCKET_KEY_TTL = Duration.ofSeconds(BUCKET_SECONDS * (WINDOW_BUCKETS + 1));
+    // 캠퍼스 날짜별 키는 다음 날까지만 유지
+    private static final Duration DAILY_KEY_TTL = Duration.ofDays(2);
+    // 감쇠 점수 상위 몇 개까지 훑으며 최소 좋아요 수를 넘는 HOT 후보를 찾을지
+    private static final int HOT_SCAN_LIMIT = HOT_TOP_N * 5;
     
-    public void trackLike(Long contentId, String userId) {
-        String key = LIKE_KEY_PREFIX + contentId;
-        long timestamp = Instant.now().getEpochSecond();
-        
-        // Redis Sorted Set에 좋아요 추가 (score = timestamp)
-        redisTemplate.opsForZSet().add(key, userId, timestamp);
-        
-        // 24시간 TTL 설정
-        redisTemplate.expire(key, java.time.Duration.ofSeconds(TWENTY_FOUR_HOURS));
-        
-        // 24시간 이전 데이터 삭제
-        cleanupOldLikes(key);
+    @Value("${app.hot.score.half-life-minutes:120}")
+    private double halfLifeMinutes;
+    
+    @Value("${app.hot.score.like-weight:1.0}")
+    private double likeWeight;
+    
+    @Value("${app.hot.score.comment-weight:2.0}")
+    private double commentWeight;
+    
+    @Value("${app.hot.score.view-weight:0.2}")
+    private double viewWeight;
+    
+    @SuppressWarnings("rawtypes")
+    private static final DefaultRedisScript<List> HOT_RANKING_SCRIPT = new DefaultRedisScript<>();
+    
+    private static final DefaultRedisScript<Long> LIKE_BUCKETS_REPLACE_SCRIPT = new DefaultRedisScript<>();
+    
+    static {
+        HOT_RANKING_SCRIPT.setLocation(new ClassPathResource("scripts/hot_ranking_update.lua"));
+        HOT_RANKING_SCRIPT.setResultType(List.class);
+        LIKE_BUCKETS_REPLACE_SCRIPT.setLocation(new ClassPathResource("scripts/like_buckets_replace.lua"));
+        LIKE_BUCKETS_REPLACE_SCRIPT.setResultType(Long.class);
+    }
+    
+    public HotRankingChange trackLike(Content content) {
+        return runHotRankingScript(content.getContentId(), currentBucket(), 1, likeWeight, LocalDateTime.now(),
+                areaScoreKeys(content));
+    }
+    
+    /**
+     * 좋아요 취소 - 좋아요를 누른 시점의 버킷과 점수에서 차감 (24시간이 지난 좋아요는 이미 집계 밖이라 재평가만)
+     */
+    public HotRankingChange removeLike(Content content, LocalDateTime likedAt) {
+        Long contentId = content.getContentId();
+        if (likedAt == null) {
+            return runHotRankingScript(contentId, currentBucket(), -1, 0, LocalDateTime.now(), List.of());
+        }
+        // 이전 캠퍼스 날짜의 좋아요는 오늘 점수에 들어 있지 않음
+        boolean scoredToday = !likedAt.isBefore(CampusDateUtil.getCampusDateStartTime(CampusDateUtil.getCurrentCampusDate()));
+        return runHotRankingScript(contentId, bucketOf(likedAt), -1, scoredToday ? -likeWeight : 0, likedAt,
+                areaScoreKeys(content));
+    }
+    
+    public HotRankingChange trackComment(Content content) {
+        return runHotRankingScript(content.getContentId(), currentBucket(), 0, commentWeight, LocalDateTime.now(),
+                areaScoreKeys(content));
+    }
+    
+    /**
+     * 오늘(캠퍼스 날짜) 처음 조회한 사용자의 조회를 점수에 반영
+     * 새 조회자 판별은 ContentViewerService 의 일간 조회자 HyperLogLog 에서 처리
+     */
+    public HotRankingChange trackUniqueView(Content content) {
+        return runHotRankingScript(content.getContentId(), currentBucket(), 0, viewWeight, LocalDateTime.now(),
+                areaScoreKeys(content));
+    }
+    
+    /**
+     * 좋아요 변경 없이 24시간 수와 HOT 여부만 재평가 (오래된 버킷이 창 밖으로 밀려난 경우, 캠퍼스 날짜 변경)
+     */
+    public HotRankingChange reevaluate(Long contentId) {
+        return runHotRankingScript(contentId, currentBucket(), 0, 0, LocalDateTime.now(), List.of());
+    }
+    
+    /**
+     * 오늘(캠퍼스 날짜) 감쇠 점수 순 HOT 게시글 id
+     */
+    public List<Long> getHotContentIdsByScore() {
+        Set<String> ranked = stringRedisTemplate.opsForZSet().reverseRange(currentScoreKey(), 0, HOT_SCAN_LIMIT - 1);
+        Set<String> members = stringRedisTemplate.opsForSet().members(HOT_MEMBERS_KEY);
+        List<Long> contentIds = new ArrayList<>();
+        if (ranked == null || members == null) {
+            return contentIds;
+        }
+        for (String member : ranked) {
+            if (members.contains(member)) {
+                contentIds.add(Long.valueOf(member));
+                if (contentIds.size() >= HOT_TOP_N) {
+                    break;
+                }
+            }
+        }
+        return contentIds;
+    }
+    
+    /**
+     * 랭킹에 올라 있거나 현재 HOT 인 게시글 id (재평가 대상)
+     */
+    public List<Long> getRankedContentIds() {
+        Set<String> ranked = new LinkedHashSet<>();
+        Set<String> likeRanked = stringRedisTemplate.opsForZSet().range(HOT_RANKING_KEY, 0, -1);
+        Set<String> members = stringRedisTemplate.opsForSet().members(HOT_MEMBERS_KEY);
+        if (likeRanked != null) {
+            ranked.addAll(likeRanked);
+        }
+        if (members != null) {
+            ranked.addAll(members);
+        }
+        List<Long> contentIds = new ArrayList<>(ranked.size());
+        ranked.forEach(member -> contentIds.add(Long.valueOf(member)));
+        return contentIds;
     }
     
-    public void removeLike(Long contentId, String userId) {
-        String key = LIKE_KEY_PREFIX + contentId;
-        redisTemplate.opsForZSet().remove(key, userId);
+    /**
+     * Redis 랭킹이 비어 있으면(최초 기동, Redis 초기화) DB 기준으로 한 번 채움
+     */
+    public boolean seedIfEmpty(Collection<Long> currentHotContentIds) {
+        if (Boolean.TRUE.equals(stringRedisTemplate.hasKey(HOT_RANKING_KEY))) {
+            return false;
+        }
+        migrateExistingLikesToRedis();
+        if (!currentHotContentIds.isEmpty()) {
+            stringRedisTemplate.opsForSet().add(HOT_MEMBERS_KEY,
+                    currentHotContentIds.stream().map(String::valueOf).toArray(String[]::new));
+        }
+        return true;
+    }
+    
+    /**
+     * 랭킹에 기록된 24시간 좋아요 수 (ZMSCORE 한 번, 없으면 0)
+     */
+    public Map<Long, Long> getLike24hCounts(List<Long> contentIds) {
+        Map<Long, Long> counts = new HashMap<>();
+        if (contentIds.isEmpty()) {
+            return counts;
+        }
+        List<Double> scores = stringRedisTemplate.opsForZSet().score(HOT_RANKING_KEY,
+                contentIds.stream().map(String::valueOf).toArray());
+        for (int i = 0; i < contentIds.size(); i++) {
+            Double score = scores != null ? scores.get(i) : null;
+            counts.put(contentIds.get(i), score != null ? score.longValue() : 0L);
+        }
+        return counts;
     }
     
     public long getLike24hCount(Long contentId) {
-        String key = LIKE_KEY_PREFIX + contentId;
-        cleanupOldLikes(key);
-        return redisTemplate.opsForZSet().count(key, Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY);
+        long current = currentBucket();
+        List<Object> fields = new ArrayList<>(WINDOW_BUCKETS);
+        for (long bucket = current - WINDOW_BUCKETS + 1; bucket <= current; bucket++) {
+            fields.add(Long.toString(bucket));
+        }
+        
+        long total = 0;
+        for (Object value : hashOps().multiGet(LIKE_BUCKET_KEY_PREFIX + contentId, fields)) {
+            if (value != null) {
+                total += Long.parseLong(value.toString());
+            }
+        }
+        return Math.max(total, 0);
     }
     
     public void updateHotRanking(Long contentId, long likeCount) {
-        redisTemplate.opsForZSet().add(HOT_RANKING_KEY, contentId, likeCount);
+        stringRedisTemplate.opsForZSet().add(HOT_RANKING_KEY, contentId.toString(), likeCount);
+    }
+    
+    @SuppressWarnings("unchecked")
+    private HotRankingChange runHotRankingScript(Long contentId, long bucket, long delta,
+                                                 double weight, LocalDateTime occurredAt, List<String> areaKeys) {
+        List<String> keys = new ArrayList<>(4 + areaKeys.size());
+        keys.add(LIKE_BUCKET_KEY_PREFIX + contentId);
+        keys.add(HOT_RANKING_KEY);
+        keys.add(HOT_MEMBERS_KEY);
+        keys.add(currentScoreKey());
+        keys.addAll(areaKeys);
+        
+        List<Object> result = stringRedisTemplate.execute(HOT_RANKING_SCRIPT, keys,
+                contentId.toString(),
+                Long.toString(bucket),
+                Long.toString(delta),
+                Long.toString(currentBucket()),
+                Integer.toString(WINDOW_BUCKETS),
+                Long.toString(BUCKET_KEY_TTL.getSeconds()),
+                Integer.toString(HOT_TOP_N),
+                Long.toString(HOT_MIN_LIKES),
+                Long.toString((long) Math.signum(weight)),
+                Double.toString(weight != 0 ? logScoreIncrement(Math.abs(weight), occurredAt) : 0),
+                Long.toString(DAILY_KEY_TTL.getSeconds()),
+                Integer.toString(HOT_SCAN_LIMIT));
+        
+        long likes24h = ((Number) result.get(0)).longValue();
+        return new HotRankingChange(contentId, likes24h,
+                toIds((List<Object>) result.get(1)), toIds((List<Object>) result.get(2)));
+    }
+    
+    private static List<Long> toIds(List<Object> members) {
+        List<Long> ids = new ArrayList<>(members.size());
+        members.forEach(member -> ids.add(Long.valueOf(member.toString())));
+        return ids;
     }
     
-    public Set<Object> getTop10HotContent() {
-        // 점수 높은 순으로 상위 10개 반환
-        return redisTemplate.opsForZSet().reverseRange(HOT_RANKING_KEY, 0, 9);
+    /**
+     * 로그 공간 점수 증가분: ln(w) + (t - 캠퍼스 날짜 시작) / tau, tau = 반감기 / ln 2
+     * 같은 가중치라도 늦게 발생한 이벤트가 더 큰 값을 더하므로 기존 점수를 다시 감쇠시킬 필요가 없음
+     */
+    private double logScoreIncrement(double weight, LocalDateTime occurredAt) {
+        LocalDateTime dayStart = CampusDateUtil.getCampusDateStartTime(CampusDateUtil.getCurrentCampusDate());
+        double tauSeconds = halfLifeMinutes * 60 / Math.log(2);
+        return Math.log(weight) + Duration.between(dayStart, occurredAt).getSeconds() / tauSeconds;
     }
     
-    private void cleanupOldLikes(String key) {
-        long twentyFourHoursAgo = Instant.now().getEpochSecond() - TWENTY_FOUR_HOURS;
-        redisTemplate.opsForZSet().removeRangeByScore(key, 0, twentyFourHoursAgo);
+    private List<String> areaScoreKeys(Content content) {
+        return hotAreaRankingService.scoreKeysOf(content.getLatitude(), content.getLongitude());
+    }
+    
+    private static String currentScoreKey() {
+        return HOT_SCORE_KEY_PREFIX + CampusDateUtil.getCurrentCampusDate();
     }
     
     public void migrateExistingLikesToRedis() {
-        LocalDateTime currentCycleStart = getCurrentCycleStart();
-        List<ContentLike> recentLikes = contentLikeRepository.findAllSince(currentCycleStart);
+        LocalDateTime dayStart = CampusDateUtil.getCampusDateStartTime(CampusDateUtil.getCurrentCampusDate());
+        List<Object[]> recentLikes = contentLikeRepository.findContentIdAndCreatedAtSince(
+                LocalDateTime.now().minusSeconds(BUCKET_SECONDS * WINDOW_BUCKETS));
         
-        for (ContentLike like : recentLikes) {
-            String key = LIKE_KEY_PREFIX + like.getContent().getContentId();
-            long timestamp = like.getCreatedAt().atZone(java.time.ZoneId.systemDefault()).toEpochSecond();
-            
-            redisTemplate.opsForZSet().add(key, like.getUser().getUserId(), timestamp);
-            redisTemplate.expire(key, java.time.Duration.ofSeconds(TWENTY_FOUR_HOURS));
+        // 게시글별 버킷 카운트를 새로 계산하여 통째로 교체 (여러 번 실행해도 중복 집계되지 않음)
+        Map<Long, Map<String, String>> bucketsByContent = new HashMap<>();
+        Map<Long, Long> countsByContent = new HashMap<>();
+        Map<Long, Double> scoresByContent = new HashMap<>();
+        Map<Long, List<String>> areaKeysByContent = new HashMap<>();
+        for (Object[] row : recentLikes) {
+            Long contentId = (Long) row[0];
+            LocalDateTime likedAt = (LocalDateTime) row[1];
+            areaKeysByContent.computeIfAbsent(contentId,
+                    id -> hotAreaRankingService.scoreKeysOf((BigDecimal) row[2], (BigDecimal) row[3]));
+            String bucket = Long.toString(bucketOf(likedAt));
+            bucketsByContent.computeIfAbsent(contentId, id -> new HashMap<>())
+                    .merge(bucket, "1", (a, b) -> Long.toString(Long.parseLong(a) + 1));
+            countsByContent.merge(contentId, 1L, Long::sum);
+            if (!likedAt.isBefore(dayStart)) {
+                scoresByContent.merge(contentId, Math.exp(logScoreIncrement(likeWeight, likedAt)), Double::sum);
+            }
         }
         
-        // 모든 컨텐츠의 HOT 랭킹 업데이트
-        updateAllHotRankings();
+        bucketsByContent.forEach((contentId, buckets) -> {
+            List<String> args = new ArrayList<>(buckets.size() * 2 + 1);
+            args.add(Long.toString(BUCKET_KEY_TTL.getSeconds()));
+            buckets.forEach((bucket, count) -> {
+                args.add(bucket);
+                args.add(count);
+            });
+            stringRedisTemplate.execute(LIKE_BUCKETS_REPLACE_SCRIPT,
+                    List.of(LIKE_BUCKET_KEY_PREFIX + contentId), args.toArray());
+        });
+        
+        // 모든 컨텐츠의 HOT 랭킹 업데이트 (좋아요 시 스크립트와 같은 24시간 기준)
+        countsByContent.forEach(this::updateHotRanking);
+        
+        // 오늘 좋아요로 감쇠 점수 복원 - 전체 랭킹과 게시글이 속한 영역(셀/랜드마크) 랭킹에 같은 점수
+        // 이미 점수가 있는 게시글은 댓글/조회 가산분이 섞여 있으므로 덮어쓰지 않고 없는 게시글만 채움 (ZADD NX)
+        String scoreKey = currentScoreKey();
+        Set<String> touchedKeys = new HashSet<>();
+        scoresByContent.forEach((contentId, score) -> {
+            List<String> keys = new ArrayList<>(areaKeysByContent.getOrDefault(contentId, List.of()));
+            keys.add(scoreKey);
+            for (String key : keys) {
+                stringRedisTemplate.opsForZSet().addIfAbsent(key, contentId.toString(), Math.log(score));
+            }
+            touchedKeys.addAll(keys);
+        });
+        touchedKeys.forEach(key -> stringRedisTemplate.expire(key, DAILY_KEY_TTL));
     }
     
-    private void updateAllHotRankings() {
-        LocalDateTime currentCycleStart = getCurrentCycleStart();
-        List<ContentLike> recentLikes = contentLikeRepository.findAllSince(currentCycleStart);
-        
-        // 컨텐츠별로 그룹화하여 카운트
-        recentLikes.stream()
-                .collect(java.util.stream.Collectors.groupingBy(
-                        like -> like.getContent().getContentId(),
-                        java.util.stream.Collectors.counting()
-                ))
-                .forEach((contentId, count) -> {
-                    updateHotRanking(contentId, count);
-                });
-    }
-    
-    private LocalDateTime getCurrentCycleStart() {
-        LocalDateTime now = LocalDateTime.now();
-        LocalTime fiveAm = LocalTime.of(5, 0);
+    private HashOperations<String, Object, Object> hashOps() {
+        return stringRedisTemplate.opsForHash();
+    }
+    
+    private static long currentBucket() {
+        return Instant.now().getEpochSecond() / BUCKET_SECONDS;
+    }
+    
+    private static long bucketOf(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toEpochSecond() / BUCKET_SECONDS;
+    }
+    
+    /**
+     * 좋아요 반영 결과
+     * @param likes24h 대상 게시글의 최근 24시간 좋아요 수
+     * @param entered  이번 변경으로 HOT 에 진입한 게시글
+     * @param exited   이번 변경으로 HOT 에서 밀려난 게시글
+     */
+    public record HotRankingChange(Long contentId, long likes24h, List<Long> entered, List<Long> exited) {
         
-        if (now.toLocalTime().isBefore(fiveAm)) {
-            // 현재 시간이 05:00 이전이면 전날 05:00부터
-            return now.minusDays(1).with(fiveAm);
-        } else {
-            // 현재 시간이 05:00 이후면 당일 05:00부터
-            return now.with(fiveAm);
+        public boolean hasMembershipChange() {
+            return !entered.isEmpty() || !exited.isEmpty();
         }
     }
-}
\ No newline at end of file
+}
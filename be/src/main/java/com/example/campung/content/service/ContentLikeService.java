@@ -3,16 +3,20 @@ package com.example.campung.content.service;
 import com.example.campung.content.dto.ContentLikeResponse;
 import com.example.campung.content.repository.ContentLikeRepository;
 import com.example.campung.content.repository.ContentRepository;
+import com.example.campung.content.service.ContentCounterService.CounterType;
 import com.example.campung.user.repository.UserRepository;
 import com.example.campung.notification.service.NotificationService;
+import com.example.campung.notification.service.ReactionEventPublisher;
 import com.example.campung.global.exception.ContentNotFoundException;
 import com.example.campung.entity.Content;
-import com.example.campung.entity.ContentLike;
 import com.example.campung.entity.User;
+import com.example.campung.global.util.AfterCommitUtil;
+import com.example.campung.main.service.MapContentIndex;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 @Service
@@ -30,9 +34,21 @@ public class ContentLikeService {
     @Autowired
     private ContentHotTrackingService contentHotTrackingService;
     
+    @Autowired
+    private ContentHotService contentHotService;
+    
+    @Autowired
+    private ContentCounterService contentCounterService;
+    
     @Autowired
     private NotificationService notificationService;
     
+    @Autowired
+    private MapContentIndex mapContentIndex;
+    
+    @Autowired
+    private ReactionEventPublisher reactionEventPublisher;
+    
     @Transactional
     public ContentLikeResponse toggleLike(Long contentId, String accessToken) {
         // 게시글 존재 확인
@@ -50,48 +66,61 @@ public class ContentLikeService {
                     return userRepository.save(newUser);
                 });
         
-        // 기존 좋아요 확인
-        Optional<ContentLike> existingLike = contentLikeRepository.findByContentContentIdAndUserUserId(contentId, accessToken);
+        // 좋아요 토글 - 유니크 키(content_id, user_id)로 보호되는 DELETE / INSERT IGNORE 의 영향 행 수로 판단
+        // 동시에 같은 토글이 들어와도 실제로 바뀐 요청만 카운터(write-behind)와 HOT 랭킹을 갱신
+        // 카운터 증감과 HOT 랭킹 스크립트는 커밋 후 실행 (롤백되면 Redis 쪽 변경만 남아 DB 와 어긋나므로)
+        Optional<LocalDateTime> likedAt = contentLikeRepository.findLikedAt(contentId, user.getId());
         
         boolean isLiked;
         String message;
+        int likeDelta = 0;
         
-        if (existingLike.isPresent()) {
+        if (likedAt.isPresent()) {
             // 좋아요 취소
-            contentLikeRepository.delete(existingLike.get());
             isLiked = false;
             message = "좋아요가 취소되었습니다";
-            
-            // Redis에서 좋아요 제거
-            contentHotTrackingService.removeLike(contentId, accessToken);
+            if (contentLikeRepository.deleteLike(contentId, user.getId()) == 1) {
+                likeDelta = -1;
+                
+                // Redis에서 좋아요 제거 (24시간 수/HOT 랭킹 원자적 갱신) 후 HOT 진입/해제 즉시 반영
+                LocalDateTime removedLikedAt = likedAt.get();
+                AfterCommitUtil.run(() -> contentHotService.applyHotChanges(
+                        contentHotTrackingService.removeLike(content, removedLikedAt)));
+            }
         } else {
             // 좋아요 추가
-            ContentLike newLike = ContentLike.builder()
-                    .content(content)
-                    .user(user)
-                    .build();
-            contentLikeRepository.save(newLike);
             isLiked = true;
             message = "좋아요가 추가되었습니다";
-            
-            // Redis에서 좋아요 추적
-            contentHotTrackingService.trackLike(contentId, accessToken);
-            
-            // 좋아요 알림 전송 (본인이 작성한 게시글이 아닌 경우에만)
-            if (!content.getAuthor().getUserId().equals(accessToken)) {
-                sendLikeNotification(content, user);
+            if (contentLikeRepository.insertLikeIfAbsent(contentId, user.getId(), LocalDateTime.now()) == 1) {
+                likeDelta = 1;
+                
+                // Redis에서 좋아요 추적 (24시간 수/HOT 랭킹 원자적 갱신) 후 HOT 진입/해제 즉시 반영
+                AfterCommitUtil.run(() -> contentHotService.applyHotChanges(
+                        contentHotTrackingService.trackLike(content)));
+                
+                // 좋아요 알림 전송 (본인이 작성한 게시글이 아닌 경우에만)
+                if (!content.getAuthor().getUserId().equals(accessToken)) {
+                    sendLikeNotification(content, user);
+                }
             }
         }
         
-        // 총 좋아요 수 조회
-        int totalLikes = contentLikeRepository.countByContentId(contentId);
-        
-        // Content 테이블의 like_count 필드 업데이트
-        contentRepository.updateLikeCount(contentId, totalLikes);
+        // 응답은 현재 카운터 값 + 이번 증감 (실제로 바뀌지 않은 동시 중복 요청은 현재 값 그대로)
+        int totalLikes = Math.max(contentCounterService.getCounts(contentId).likeCount() + likeDelta, 0);
         
-        // Redis에서 Hot 랭킹 업데이트
-        long currentLikes24h = contentHotTrackingService.getLike24hCount(contentId);
-        contentHotTrackingService.updateHotRanking(contentId, currentLikes24h);
+        if (likeDelta != 0) {
+            int delta = likeDelta;
+            AfterCommitUtil.run(() -> {
+                int committedLikes = contentCounterService.increment(contentId, CounterType.LIKE, delta);
+                mapContentIndex.updateLikeCount(contentId, committedLikes);
+                
+                // 지도/상세 화면 구독자에게 좋아요 수 실시간 전송
+                if (content.getLatitude() != null && content.getLongitude() != null) {
+                    reactionEventPublisher.publishLikeCount(contentId,
+                            content.getLatitude().doubleValue(), content.getLongitude().doubleValue(), committedLikes);
+                }
+            });
+        }
         
         ContentLikeResponse.ContentLikeData data = new ContentLikeResponse.ContentLikeData(isLiked, totalLikes);
         return new ContentLikeResponse(true, message, data);
@@ -7,6 +7,7 @@ import com.example.campung.global.exception.ContentNotFoundException;
 import com.example.campung.global.exception.UnauthorizedException;
 import com.example.campung.entity.Content;
 import com.example.campung.entity.Attachment;
+import com.example.campung.main.service.MapContentIndex;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -27,6 +28,9 @@ public class ContentUpdateService {
     @Autowired
     private S3Service s3Service;
     
+    @Autowired
+    private MapContentIndex mapContentIndex;
+    
     @Transactional
     public ContentUpdateResponse updateContent(Long contentId, ContentUpdateRequest request, String accessToken) throws IOException {
         System.out.println("=== CONTENT 수정 시작 ===");
@@ -123,6 +127,9 @@ public class ContentUpdateService {
         System.out.println("=== CONTENT 수정 완료 ===");
         System.out.println("수정된 Content ID: " + updatedContent.getContentId());
         
+        // 지도 인덱스 반영
+        mapContentIndex.onContentSaved(updatedContent);
+        
         return new ContentUpdateResponse(true, "게시글이 성공적으로 수정되었습니다", updatedContent.getContentId());
     }
     
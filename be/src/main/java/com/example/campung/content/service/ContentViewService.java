@@ -4,7 +4,10 @@ import com.example.campung.content.dto.ContentDetailResponse;
 import com.example.campung.content.dto.ContentDetailRequest;
 import com.example.campung.content.repository.ContentRepository;
 import com.example.campung.content.repository.ContentLikeRepository;
-import com.example.campung.comment.repository.CommentRepository;
+import com.example.campung.content.dto.ContentCounts;
+import com.example.campung.content.service.ContentCounterService.CounterType;
+import com.example.campung.content.service.ContentHotTrackingService.HotRankingChange;
+import com.example.campung.content.service.ContentViewerService.ViewRecord;
 import com.example.campung.global.exception.ContentNotFoundException;
 import com.example.campung.entity.Content;
 import com.example.campung.entity.Attachment;
@@ -28,10 +31,16 @@ public class ContentViewService {
     private ContentLikeRepository contentLikeRepository;
     
     @Autowired
-    private CommentRepository commentRepository;
+    private ContentHotService contentHotService;
     
     @Autowired
-    private ContentHotService contentHotService;
+    private ContentHotTrackingService contentHotTrackingService;
+    
+    @Autowired
+    private ContentCounterService contentCounterService;
+    
+    @Autowired
+    private ContentViewerService contentViewerService;
     
     public ContentDetailResponse getContentById(Long contentId) {
         return getContentById(contentId, null);
@@ -47,11 +56,31 @@ public class ContentViewService {
         
         System.out.println("Content 조회 완료: " + content.getTitle());
         
+        recordView(content, userId);
+        
         ContentDetailRequest contentDetail = buildContentDetail(content, userId);
         
         return new ContentDetailResponse(true, "게시글 조회 성공", contentDetail);
     }
     
+    // 처음 조회한 사용자만 조회 수에, 오늘 처음 조회한 사용자만 HOT 감쇠 점수에 반영 (Redis 장애 시에도 조회는 계속)
+    private void recordView(Content content, String userId) {
+        try {
+            ViewRecord view = contentViewerService.recordView(content.getContentId(), userId);
+            if (view.newViewer()) {
+                contentCounterService.increment(content.getContentId(), CounterType.VIEW, 1);
+            }
+            if (view.newToday()) {
+                HotRankingChange change = contentHotTrackingService.trackUniqueView(content);
+                if (change != null) {
+                    contentHotService.applyHotChanges(change);
+                }
+            }
+        } catch (Exception e) {
+            System.err.println("조회 집계 실패: " + e.getMessage());
+        }
+    }
+    
     private ContentDetailRequest buildContentDetail(Content content, String userId) {
         ContentDetailRequest detail = new ContentDetailRequest();
         
@@ -94,8 +123,11 @@ public class ContentViewService {
         // HOT 컨텐츠 여부 설정
         detail.setHotContent(contentHotService.isHotContent(content.getContentId()));
         
+        // 좋아요/댓글 수는 카운터에서 조회 (COUNT 집계 없음)
+        ContentCounts counts = contentCounterService.getCounts(content.getContentId());
+        
         // 좋아요 정보 설정
-        int totalLikes = contentLikeRepository.countByContentId(content.getContentId());
+        int totalLikes = counts.likeCount();
         boolean isLikedByCurrentUser = false;
         
         if (userId != null) {
@@ -108,8 +140,13 @@ public class ContentViewService {
         detail.setLikeInfo(likeInfo);
         
         // 댓글 수 설정
-        int commentCount = commentRepository.countByContentId(content.getContentId());
-        detail.setCommentCount(commentCount);
+        detail.setCommentCount(counts.commentCount());
+        
+        // 조회 수 설정 (고유 조회자 수 추정값) - 누적 조회자 HLL 의 PFCOUNT 기준
+        // PFADD 결과로 센 카운터는 레지스터가 바뀌지 않은 새 조회자를 놓쳐 실제보다 적게 셈
+        // HLL 도입 전 조회가 쌓인 게시글은 저장된 카운터가 더 클 수 있어 큰 값을 사용
+        detail.setViewCount((int) Math.max(counts.viewCount(),
+                contentViewerService.getUniqueViewers(content.getContentId())));
         
         // 생성일시 설정 (ISO 8601 형식)
         if (content.getCreatedAt() != null) {
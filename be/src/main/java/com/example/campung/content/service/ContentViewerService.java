@@ -0,0 +1,120 @@
+package com.example.campung.content.service;
+
+import com.example.campung.global.util.CampusDateUtil;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.scripting.support.ResourceScriptSource;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 게시글 고유 조회자 집계 (Redis HyperLogLog)
+ * - 누적 조회자: content:viewers:{id} → 상세 조회 수는 PFCOUNT, 새 조회자일 때 조회 수 카운터(VIEW)도 증가(목록/DB 컬럼용)
+ * - 오늘 조회자: content:viewers:daily:{yyyy-MM-dd}:{id} → 새 조회자일 때만 HOT 조회 점수 반영
+ * - 일간 활성 사용자: campus:actives:{yyyy-MM-dd}
+ * HLL 은 키당 최대 12KB 이고 조회자가 적은 동안은 sparse 인코딩으로 수백 바이트 수준이라
+ * 사용자별 조회 테이블 없이 게시글 수에 비례하는 메모리만 사용 (오차 약 0.81%)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ContentViewerService {
+
+    private static final String VIEWERS_KEY_PREFIX = "content:viewers:";
+    private static final String DAILY_VIEWERS_KEY_PREFIX = "content:viewers:daily:";
+    private static final String DAILY_ACTIVES_KEY_PREFIX = "campus:actives:";
+    // 캠퍼스 날짜가 바뀐 뒤에도 전날 값을 조회할 수 있도록 이틀 유지
+    private static final Duration DAILY_KEY_TTL = Duration.ofDays(2);
+
+    @SuppressWarnings("rawtypes")
+    private static final DefaultRedisScript<List> VIEW_SCRIPT = new DefaultRedisScript<>();
+
+    static {
+        VIEW_SCRIPT.setScriptSource(new ResourceScriptSource(new ClassPathResource("scripts/content_view.lua")));
+        VIEW_SCRIPT.setResultType(List.class);
+    }
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @PostConstruct
+    void registerMetrics() {
+        Gauge.builder("campus.daily.actives", this,
+                        service -> service.getDailyActiveUsers(CampusDateUtil.getCurrentCampusDate()))
+                .description("오늘(캠퍼스 날짜) 게시글을 조회한 고유 사용자 수 (HLL 추정값)")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 조회 기록 (비로그인 조회는 사용자를 구분할 수 없어 집계하지 않음)
+     */
+    public ViewRecord recordView(Long contentId, String userId) {
+        if (userId == null) {
+            return ViewRecord.NONE;
+        }
+        String campusDate = CampusDateUtil.getCurrentCampusDate().toString();
+        List<?> result = stringRedisTemplate.execute(VIEW_SCRIPT,
+                List.of(VIEWERS_KEY_PREFIX + contentId,
+                        DAILY_VIEWERS_KEY_PREFIX + campusDate + ":" + contentId,
+                        DAILY_ACTIVES_KEY_PREFIX + campusDate),
+                userId, Long.toString(DAILY_KEY_TTL.getSeconds()));
+        if (result == null || result.size() < 2) {
+            return ViewRecord.NONE;
+        }
+        return new ViewRecord(isAdded(result.get(0)), isAdded(result.get(1)));
+    }
+
+    /**
+     * 게시글 누적 고유 조회자 수 추정값 (PFCOUNT)
+     */
+    public long getUniqueViewers(Long contentId) {
+        try {
+            Long size = stringRedisTemplate.opsForHyperLogLog().size(VIEWERS_KEY_PREFIX + contentId);
+            return size != null ? size : 0;
+        } catch (Exception e) {
+            log.warn("게시글 조회자 수 조회 실패: contentId={}, error={}", contentId, e.getMessage());
+            return 0;
+        }
+    }
+
+    /**
+     * 캠퍼스 날짜별 활성 사용자 수 추정값
+     */
+    public long getDailyActiveUsers(LocalDate campusDate) {
+        try {
+            Long size = stringRedisTemplate.opsForHyperLogLog().size(DAILY_ACTIVES_KEY_PREFIX + campusDate);
+            return size != null ? size : 0;
+        } catch (Exception e) {
+            log.warn("일간 활성 사용자 조회 실패: {}", e.getMessage());
+            return 0;
+        }
+    }
+
+    /**
+     * 게시글 삭제 시 누적 조회자 HLL 정리 (일간 키는 TTL 로 만료)
+     */
+    public void deleteViewers(Long contentId) {
+        stringRedisTemplate.delete(VIEWERS_KEY_PREFIX + contentId);
+    }
+
+    private static boolean isAdded(Object value) {
+        return value instanceof Number number && number.longValue() == 1;
+    }
+
+    /**
+     * @param newViewer 게시글을 처음 조회한 사용자인지
+     * @param newToday  오늘(캠퍼스 날짜) 처음 조회한 사용자인지
+     */
+    public record ViewRecord(boolean newViewer, boolean newToday) {
+        static final ViewRecord NONE = new ViewRecord(false, false);
+    }
+}
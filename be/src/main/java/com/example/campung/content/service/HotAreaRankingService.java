@@ -0,0 +1,120 @@
+package com.example.campung.content.service;
+
+import com.example.campung.geo.service.GeohashService;
+import com.example.campung.global.util.CampusDateUtil;
+import com.example.campung.global.util.GeoDistanceUtil;
+import com.example.campung.global.util.PackedGeohashUtil;
+import com.example.campung.lankmark.repository.LandmarkRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 영역별 HOT 랭킹 (캠퍼스 날짜별 감쇠 점수 ZSET)
+ * - 셀 랭킹: hot:area:cell:{geohash6}:{yyyy-MM-dd} (게시글은 자기 위치의 셀 하나에만 속함)
+ * - 랜드마크 랭킹: hot:area:landmark:{id}:{yyyy-MM-dd} (랜드마크 radius 안의 게시글)
+ * 점수 갱신은 전체 랭킹과 같은 스크립트(hot_ranking_update.lua)에서 함께 처리하고,
+ * 여기서는 게시글 위치 → 영역 키 계산과 영역별 상위 목록 조회만 담당
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class HotAreaRankingService {
+
+    private static final String CELL_KEY_PREFIX = "hot:area:cell:";
+    private static final String LANDMARK_KEY_PREFIX = "hot:area:landmark:";
+    // 6자리 셀 ≈ 1.2km x 0.6km, 반경 조회 시 덮는 셀이 몇 개 수준으로 유지됨
+    private static final int CELL_PRECISION = 6;
+    private static final int MAX_RADIUS_METERS = 2000;
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final LandmarkRepository landmarkRepository;
+    private final GeohashService geohashService;
+
+    // 랜드마크 위치/반경 스냅샷 (좋아요마다 DB 를 조회하지 않도록 메모리에 보관)
+    private volatile List<LandmarkArea> landmarkAreas = List.of();
+
+    public void refreshLandmarks() {
+        List<LandmarkArea> areas = new ArrayList<>();
+        landmarkRepository.findAll().forEach(landmark -> areas.add(new LandmarkArea(
+                landmark.getId(), landmark.getLatitude(), landmark.getLongitude(), landmark.getRadius())));
+        landmarkAreas = List.copyOf(areas);
+        log.debug("HOT 영역 랜드마크 스냅샷 갱신: {}개", areas.size());
+    }
+
+    /**
+     * 게시글 위치가 속한 오늘의 영역 점수 키 (셀 1개 + radius 안의 랜드마크)
+     */
+    public List<String> scoreKeysOf(BigDecimal latitude, BigDecimal longitude) {
+        if (latitude == null || longitude == null) {
+            return List.of();
+        }
+        double lat = latitude.doubleValue();
+        double lng = longitude.doubleValue();
+        String campusDate = CampusDateUtil.getCurrentCampusDate().toString();
+
+        List<String> keys = new ArrayList<>();
+        keys.add(cellKey(geohashService.packedGeohash(lat, lng, CELL_PRECISION), campusDate));
+        for (LandmarkArea area : landmarkAreas) {
+            if (GeoDistanceUtil.distanceMeters(lat, lng, area.latitude(), area.longitude()) <= area.radius()) {
+                keys.add(landmarkKey(area.id(), campusDate));
+            }
+        }
+        return keys;
+    }
+
+    /**
+     * 반경을 덮는 셀들의 상위 목록을 점수 순으로 병합 (반경 밖 게시글은 호출 측에서 거리로 제외)
+     */
+    public List<ScoredContent> topNearby(double lat, double lng, int radiusMeters, int perAreaLimit) {
+        String campusDate = CampusDateUtil.getCurrentCampusDate().toString();
+        long[] cells = geohashService.coverRadius(lat, lng, Math.min(radiusMeters, MAX_RADIUS_METERS), CELL_PRECISION);
+
+        List<ScoredContent> merged = new ArrayList<>();
+        for (long cell : cells) {
+            collectTop(cellKey(cell, campusDate), perAreaLimit, merged);
+        }
+        // 게시글은 셀 하나에만 속하므로 중복 없이 정렬만 하면 됨
+        merged.sort(Comparator.comparingDouble(ScoredContent::score).reversed());
+        return merged;
+    }
+
+    public List<ScoredContent> topInLandmark(Long landmarkId, int limit) {
+        List<ScoredContent> top = new ArrayList<>();
+        collectTop(landmarkKey(landmarkId, CampusDateUtil.getCurrentCampusDate().toString()), limit, top);
+        return top;
+    }
+
+    private void collectTop(String key, int limit, List<ScoredContent> out) {
+        Set<ZSetOperations.TypedTuple<String>> top =
+                stringRedisTemplate.opsForZSet().reverseRangeWithScores(key, 0, limit - 1);
+        if (top == null) {
+            return;
+        }
+        for (ZSetOperations.TypedTuple<String> tuple : top) {
+            out.add(new ScoredContent(Long.valueOf(tuple.getValue()), tuple.getScore()));
+        }
+    }
+
+    private static String cellKey(long packedCell, String campusDate) {
+        return CELL_KEY_PREFIX + PackedGeohashUtil.toString(packedCell) + ":" + campusDate;
+    }
+
+    private static String landmarkKey(Long landmarkId, String campusDate) {
+        return LANDMARK_KEY_PREFIX + landmarkId + ":" + campusDate;
+    }
+
+    private record LandmarkArea(Long id, double latitude, double longitude, int radius) {
+    }
+
+    public record ScoredContent(Long contentId, double score) {
+    }
+}
@@ -8,6 +8,7 @@ import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 
 import java.io.IOException;
@@ -82,6 +83,25 @@ public class S3Service {
         return "https://" + bucketName + ".s3." + region + ".amazonaws.com/" + key;
     }
     
+    /**
+     * 업로드한 파일 삭제 (uploadFile/uploadThumbnail 이 반환한 URL 기준)
+     */
+    public void deleteFile(String fileUrl) {
+        String prefix = "https://" + bucketName + ".s3." + region + ".amazonaws.com/";
+        if (fileUrl == null || !fileUrl.startsWith(prefix)) {
+            throw new IllegalArgumentException("이 버킷의 파일 URL 이 아닙니다: " + fileUrl);
+        }
+        
+        try (S3Client s3Client = getS3Client()) {
+            DeleteObjectRequest deleteObjectRequest = DeleteObjectRequest.builder()
+                    .bucket(bucketName)
+                    .key(fileUrl.substring(prefix.length()))
+                    .build();
+            
+            s3Client.deleteObject(deleteObjectRequest);
+        }
+    }
+    
     private String determineFolder(String contentType) {
         if (contentType == null) {
             return "audios";
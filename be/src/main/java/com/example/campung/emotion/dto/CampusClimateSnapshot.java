@@ -0,0 +1,11 @@
+package com.example.campung.emotion.dto;
+
+/**
+ * 지도 헤더 위젯용 캠퍼스 날씨/온도 요약
+ */
+public record CampusClimateSnapshot(String emotionWeather,
+                                    double temperature,
+                                    double maxTemperature,
+                                    double minTemperature,
+                                    long updatedAt) {
+}
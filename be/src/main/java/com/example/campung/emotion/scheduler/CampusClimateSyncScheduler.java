@@ -0,0 +1,43 @@
+package com.example.campung.emotion.scheduler;
+
+import com.example.campung.emotion.service.CampusClimateHolder;
+import com.example.campung.emotion.service.CampusEmotionService;
+import com.example.campung.emotion.service.CampusTemperatureManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 캠퍼스 날씨/온도 스냅샷 동기화 스케줄러
+ * 서버 기동 시 1회 적재, 이후 1분마다 Redis 값과 맞춤 (다른 인스턴스 갱신분, 일일 초기화 반영)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CampusClimateSyncScheduler {
+
+    private final CampusClimateHolder climateHolder;
+    private final CampusEmotionService campusEmotionService;
+    private final CampusTemperatureManager temperatureManager;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        syncClimate();
+    }
+
+    @Scheduled(fixedDelayString = "${app.campus.climate.sync-interval-ms:60000}")
+    public void syncClimate() {
+        try {
+            String emotionWeather = campusEmotionService.getCurrentEmotionWeather();
+            double currentTemperature = temperatureManager.getCurrentCampusTemperature();
+            double[] minMaxTemp = temperatureManager.getTodayMinMaxTemperature();
+            climateHolder.replace(emotionWeather, currentTemperature, minMaxTemp[0], minMaxTemp[1]);
+        } catch (Exception e) {
+            // 동기화 실패 시 기존 스냅샷 유지, 스냅샷이 없으면 지도 조회가 Redis 경로로 처리
+            log.error("캠퍼스 날씨/온도 동기화 실패: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.campung.emotion.service;
+
+import com.example.campung.emotion.dto.CampusClimateSnapshot;
+import com.example.campung.notification.service.TopicBroadcaster;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 오늘의 캠퍼스 날씨/온도를 메모리에 보관하고 변경 시 구독자에게 발행
+ * 온도 매니저와 감정 분석이 값을 갱신하고, 지도 조회는 Redis 대신 이 스냅샷을 읽음
+ * 다른 서버 인스턴스에서 갱신된 값은 CampusClimateSyncScheduler 주기 동기화로 반영
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CampusClimateHolder {
+
+    public static final String CLIMATE_TOPIC = "/topic/campus/climate";
+
+    private final TopicBroadcaster broadcaster;
+
+    private final AtomicReference<CampusClimateSnapshot> current = new AtomicReference<>();
+
+    /**
+     * 현재 스냅샷 (아직 한 번도 적재되지 않았으면 null)
+     */
+    public CampusClimateSnapshot current() {
+        return current.get();
+    }
+
+    /**
+     * 온도 변경 반영 (날씨는 기존 값 유지)
+     */
+    public void updateTemperature(double temperature, double maxTemperature, double minTemperature) {
+        CampusClimateSnapshot previous = current.get();
+        String weather = previous != null ? previous.emotionWeather() : null;
+        replace(weather, temperature, maxTemperature, minTemperature);
+    }
+
+    /**
+     * 감정 날씨 변경 반영 (온도는 기존 값 유지, 아직 적재 전이면 다음 동기화 때 반영)
+     */
+    public void updateWeather(String emotionWeather) {
+        CampusClimateSnapshot previous = current.get();
+        if (previous == null) {
+            return;
+        }
+        replace(emotionWeather, previous.temperature(), previous.maxTemperature(), previous.minTemperature());
+    }
+
+    /**
+     * 스냅샷 교체, 값이 달라졌을 때만 발행
+     */
+    public void replace(String emotionWeather, double temperature, double maxTemperature, double minTemperature) {
+        CampusClimateSnapshot next = new CampusClimateSnapshot(emotionWeather, temperature,
+                maxTemperature, minTemperature, System.currentTimeMillis());
+        CampusClimateSnapshot previous = current.getAndSet(next);
+
+        if (previous != null && sameValues(previous, next)) {
+            return;
+        }
+        try {
+            broadcaster.broadcast(List.of(CLIMATE_TOPIC), next);
+            log.debug("캠퍼스 날씨/온도 발행: {}", next);
+        } catch (Exception e) {
+            log.error("캠퍼스 날씨/온도 발행 실패", e);
+        }
+    }
+
+    private static boolean sameValues(CampusClimateSnapshot a, CampusClimateSnapshot b) {
+        return Objects.equals(a.emotionWeather(), b.emotionWeather())
+                && a.temperature() == b.temperature()
+                && a.maxTemperature() == b.maxTemperature()
+                && a.minTemperature() == b.minTemperature();
+    }
+}
@@ -33,6 +33,7 @@ public class CampusTemperatureManager {
     private final RedisTemplate<String, Object> redisTemplate;
     private final PostActivityAnalyzer postActivityAnalyzer;
     private final TemperatureGuidelineConfig guidelineConfig;
+    private final CampusClimateHolder climateHolder;
     
     // Redis 키 상수
     private static final String CURRENT_TEMP_KEY = "campus:temperature:current";
@@ -173,7 +174,10 @@ public class CampusTemperatureManager {
         redisTemplate.opsForValue().set(CURRENT_TEMP_KEY, newTemp, Duration.ofMinutes(30));
         
         // 실시간 최고/최저 온도 업데이트
-        updateTodayMinMaxTemperature(newTemp);
+        double[] maxMinTemp = updateTodayMinMaxTemperature(newTemp);
+        
+        // 지도 헤더용 스냅샷 갱신 및 구독자 발행
+        climateHolder.updateTemperature(newTemp, maxMinTemp[0], maxMinTemp[1]);
         
         log.info("캠퍼스 온도 업데이트: {}도 (감정기준: {}도, 게시글조정: {:+.1f}도, 사유: {})", 
                 newTemp, baseEmotionTemp, postAdjustment, reason);
@@ -210,13 +214,15 @@ public class CampusTemperatureManager {
     
     /**
      * 오늘의 최고/최저 온도 실시간 업데이트
+     * @return 갱신 후 {최고, 최저} 온도
      */
-    private void updateTodayMinMaxTemperature(double newTemp) {
+    private double[] updateTodayMinMaxTemperature(double newTemp) {
         // 현재 최고 온도 조회 및 업데이트
         Double currentMax = (Double) redisTemplate.opsForValue().get(TODAY_MAX_TEMP_KEY);
         if (currentMax == null || newTemp > currentMax) {
             redisTemplate.opsForValue().set(TODAY_MAX_TEMP_KEY, newTemp, Duration.ofHours(24));
             log.debug("오늘 최고 온도 갱신: {}도", newTemp);
+            currentMax = newTemp;
         }
         
         // 현재 최저 온도 조회 및 업데이트
@@ -224,7 +230,10 @@ public class CampusTemperatureManager {
         if (currentMin == null || newTemp < currentMin) {
             redisTemplate.opsForValue().set(TODAY_MIN_TEMP_KEY, newTemp, Duration.ofHours(24));
             log.debug("오늘 최저 온도 갱신: {}도", newTemp);
+            currentMin = newTemp;
         }
+        
+        return new double[]{currentMax, currentMin};
     }
     
     /**
@@ -404,6 +413,7 @@ public class CampusTemperatureManager {
         double currentTemp = getCurrentCampusTemperature();
         redisTemplate.opsForValue().set(TODAY_MAX_TEMP_KEY, currentTemp, Duration.ofHours(24));
         redisTemplate.opsForValue().set(TODAY_MIN_TEMP_KEY, currentTemp, Duration.ofHours(24));
+        climateHolder.updateTemperature(currentTemp, currentTemp, currentTemp);
         
         log.info("오늘의 최고/최저 온도 초기화 완료: {}도", currentTemp);
     }
@@ -26,6 +26,7 @@ public class EmotionAnalysisOrchestrator {
     private final EmotionStatisticsService emotionStatisticsService;
     private final EmotionCalculatorService emotionCalculatorService;
     private final CampusTemperatureManager temperatureManager;
+    private final CampusClimateHolder climateHolder;
 
     /**
      * 스케줄러용 매시간 감정 분석 실행
@@ -112,6 +113,9 @@ public class EmotionAnalysisOrchestrator {
         // 감정 통계 서비스에 날씨와 온도 업데이트
         emotionStatisticsService.updateWeatherAndTemperature(weather.getKoreanName(), temperature);
         
+        // 지도 헤더용 스냅샷의 날씨 갱신 (온도는 아래 온도 매니저 갱신 시 함께 발행)
+        climateHolder.updateWeather(weather.getKoreanName());
+        
         // 온도 매니저에 감정 분석 결과 전달 (campus_temperature 테이블 기록 및 실시간 최고/최저 업데이트)
         if (temperature != null) {
             temperatureManager.updateTemperatureFromEmotionAnalysis(temperature);
@@ -1,8 +1,10 @@
 package com.example.campung.entity;
 
 import com.example.campung.global.enums.PostType;
+import com.example.campung.global.util.GeoDistanceUtil;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnTransformer;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -11,7 +13,8 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 @Entity
-@Table(name = "content")
+@Table(name = "content",
+       indexes = @Index(name = "ix_content_created_lat_lng", columnList = "created_at, latitude, longitude"))
 @Getter
 @Setter
 @NoArgsConstructor
@@ -47,6 +50,13 @@ public class Content {
     
     @Column(precision = 11, scale = 8)
     private BigDecimal longitude;
+
+    // 공간 검색용 POINT 컬럼 (SPATIAL 인덱스), 위경도에서 자동 계산
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @Column(name = "location", nullable = false, columnDefinition = "POINT")
+    @ColumnTransformer(read = "ST_AsText(location)", write = "ST_GeomFromText(?)")
+    private String location;
     
     @Column(name = "building_name")
     private String buildingName;
@@ -65,6 +75,10 @@ public class Content {
     @Column(name = "comment_count", nullable = false, columnDefinition = "INTEGER DEFAULT 0")
     private Integer commentCount = 0;
     
+    @Builder.Default
+    @Column(name = "view_count", nullable = false, columnDefinition = "INTEGER DEFAULT 0")
+    private Integer viewCount = 0;
+    
     @Builder.Default
     @Column(name = "is_hot", nullable = false, columnDefinition = "TINYINT(1) DEFAULT 0")
     private Boolean isHot = false;
@@ -93,4 +107,10 @@ public class Content {
     
     @OneToOne(mappedBy = "content", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     private ContentHot contentHot;
+
+    @PrePersist
+    @PreUpdate
+    protected void syncLocation() {
+        this.location = GeoDistanceUtil.pointWkt(latitude, longitude);
+    }
 }
\ No newline at end of file
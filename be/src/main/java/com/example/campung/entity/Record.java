@@ -1,14 +1,17 @@
 package com.example.campung.entity;
 
+import com.example.campung.global.util.GeoDistanceUtil;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnTransformer;
 import org.hibernate.annotations.CreationTimestamp;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "record")
+@Table(name = "record",
+       indexes = @Index(name = "ix_record_created_lat_lng", columnList = "created_at, latitude, longitude"))
 @Getter
 @Setter
 @NoArgsConstructor
@@ -33,8 +36,21 @@ public class Record {
     
     @Column(precision = 11, scale = 8)
     private BigDecimal longitude;
+
+    // 공간 검색용 POINT 컬럼 (SPATIAL 인덱스), 위경도에서 자동 계산
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @Column(name = "location", nullable = false, columnDefinition = "POINT")
+    @ColumnTransformer(read = "ST_AsText(location)", write = "ST_GeomFromText(?)")
+    private String location;
     
     @CreationTimestamp
     @Column(name = "created_at")
     private LocalDateTime createdAt;
+
+    @PrePersist
+    @PreUpdate
+    protected void syncLocation() {
+        this.location = GeoDistanceUtil.pointWkt(latitude, longitude);
+    }
 }
\ No newline at end of file
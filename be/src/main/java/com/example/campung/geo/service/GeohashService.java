@@ -1,6 +1,8 @@
 package com.example.campung.geo.service;
 
+import com.example.campung.global.util.PackedGeohashUtil;
 import com.github.davidmoten.geo.GeoHash;
+import com.github.davidmoten.geo.LatLong;
 import org.springframework.stereotype.Service;
 
 import java.util.LinkedHashSet;
@@ -13,10 +15,64 @@ public class GeohashService {
         return GeoHash.encodeHash(lat, lon, 8);
     }
     
+    public String geohash(double lat, double lon, int precision) {
+        return GeoHash.encodeHash(lat, lon, precision);
+    }
+    
     public Set<String> neighbors3x3(String hash8) {
         var set = new LinkedHashSet<String>();
         set.add(hash8);
         set.addAll(GeoHash.neighbours(hash8));
         return set;
     }
-}
\ No newline at end of file
+    
+    /**
+     * 사각 영역을 덮는 geohash 셀 개수 추정 (실제 커버 계산 전에 비용 판단용)
+     */
+    public long estimateCoverCount(double minLat, double maxLat, double minLng, double maxLng, int precision) {
+        long rows = (long) Math.ceil((maxLat - minLat) / GeoHash.heightDegrees(precision)) + 1;
+        long cols = (long) Math.ceil((maxLng - minLng) / GeoHash.widthDegrees(precision)) + 1;
+        return rows * cols;
+    }
+    
+    /**
+     * geohash 셀의 경계 {minLat, maxLat, minLng, maxLng}
+     */
+    public double[] boundingBox(String hash) {
+        LatLong center = GeoHash.decodeHash(hash);
+        double halfHeight = GeoHash.heightDegrees(hash.length()) / 2;
+        double halfWidth = GeoHash.widthDegrees(hash.length()) / 2;
+        return new double[] {
+                center.getLat() - halfHeight, center.getLat() + halfHeight,
+                center.getLon() - halfWidth, center.getLon() + halfWidth
+        };
+    }
+    
+    /**
+     * 사각 영역을 덮는 geohash 셀 목록
+     */
+    public Set<String> coverBoundingBox(double minLat, double maxLat, double minLng, double maxLng, int precision) {
+        return GeoHash.coverBoundingBox(maxLat, minLng, minLat, maxLng, precision).getHashes();
+    }
+    
+    /**
+     * long 으로 인코딩한 geohash (문자열 생성 없이 셀 비교/상위 셀 계산용, PackedGeohashUtil 참고)
+     */
+    public long packedGeohash(double lat, double lon, int precision) {
+        return PackedGeohashUtil.encode(lat, lon, precision);
+    }
+    
+    /**
+     * 중심 셀 + 8개 이웃 셀을 out(길이 9 이상)에 채우고 개수를 반환
+     */
+    public int neighbors3x3(long packed, long[] out) {
+        return PackedGeohashUtil.neighbors3x3(packed, out);
+    }
+    
+    /**
+     * 반경(미터)을 감싸는 셀 목록 (long 인코딩)
+     */
+    public long[] coverRadius(double lat, double lon, double radiusMeters, int precision) {
+        return PackedGeohashUtil.coverRadius(lat, lon, radiusMeters, precision);
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.campung.global.util;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 트랜잭션 커밋 이후 실행 (트랜잭션 밖이면 즉시 실행, 롤백되면 실행하지 않음)
+ * afterCommit 콜백 안에서 새로 등록한 동기화는 호출되지 않으므로 콜백 실행 중에는 등록 없이 바로 실행
+ * (콜백 안에서 시작한 REQUIRES_NEW 트랜잭션은 그 트랜잭션의 커밋 이후에 실행)
+ */
+@Slf4j
+public class AfterCommitUtil {
+
+    // 현재 스레드에서 실행 중인 afterCommit 콜백
+    private static final ThreadLocal<TransactionSynchronization> RUNNING_AFTER_COMMIT = new ThreadLocal<>();
+
+    private AfterCommitUtil() {
+    }
+
+    public static void run(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive() || inCommittedTransaction()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                TransactionSynchronization previous = RUNNING_AFTER_COMMIT.get();
+                RUNNING_AFTER_COMMIT.set(this);
+                try {
+                    action.run();
+                } catch (Exception e) {
+                    // 이미 커밋된 요청을 실패로 돌려보내지 않도록 로그만 남김
+                    log.error("커밋 후 작업 실패: {}", e.getMessage(), e);
+                } finally {
+                    if (previous == null) {
+                        RUNNING_AFTER_COMMIT.remove();
+                    } else {
+                        RUNNING_AFTER_COMMIT.set(previous);
+                    }
+                }
+            }
+        });
+    }
+
+    /**
+     * 이미 커밋된 트랜잭션의 afterCommit 콜백 안인지 여부
+     * 콜백 안에서 REQUIRES_NEW 로 새 트랜잭션을 시작하면 이전 동기화가 보류되므로 새 트랜잭션의 커밋 이후로 등록
+     */
+    private static boolean inCommittedTransaction() {
+        TransactionSynchronization running = RUNNING_AFTER_COMMIT.get();
+        return running != null && TransactionSynchronizationManager.getSynchronizations().contains(running);
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.campung.global.util;
+
+import java.util.Locale;
+
+public class GeoDistanceUtil {
+
+    private static final double KM_PER_DEGREE = 111.32; // 위도 1도 = 111.32km
+
+    /**
+     * 두 좌표 사이의 거리를 미터 단위로 계산합니다.
+     * 위도에 따른 경도 스케일링을 적용한 평면 근사 (캠퍼스 반경 수준에서 충분히 정확)
+     */
+    public static double distanceMeters(double lat1, double lng1, double lat2, double lng2) {
+        double avgLat = Math.toRadians((lat1 + lat2) / 2);
+        double latDistance = (lat2 - lat1) * KM_PER_DEGREE; // km
+        double lngDistance = (lng2 - lng1) * KM_PER_DEGREE * Math.cos(avgLat); // km
+
+        return Math.sqrt(latDistance * latDistance + lngDistance * lngDistance) * 1000;
+    }
+
+    /**
+     * 반경(미터)을 위도 차이(도)로 변환합니다.
+     */
+    public static double metersToLatDegrees(double meters) {
+        return (meters / 1000.0) / KM_PER_DEGREE;
+    }
+
+    /**
+     * 반경(미터)을 주어진 위도에서의 경도 차이(도)로 변환합니다.
+     */
+    public static double metersToLngDegrees(double meters, double atLat) {
+        return metersToLatDegrees(meters) / Math.cos(Math.toRadians(atLat));
+    }
+
+    /**
+     * 공간 컬럼(location)에 저장할 WKT 포인트 (x=경도, y=위도)
+     * 좌표가 없으면 POINT(0 0)으로 저장 (SPATIAL 인덱스 컬럼은 NOT NULL이어야 함)
+     */
+    public static String pointWkt(Number lat, Number lng) {
+        if (lat == null || lng == null) {
+            return "POINT(0 0)";
+        }
+        return String.format(Locale.ROOT, "POINT(%.8f %.8f)", lng.doubleValue(), lat.doubleValue());
+    }
+
+    /**
+     * 반경을 감싸는 사각 영역의 WKT 폴리곤 (MBRContains 인덱스 필터용)
+     */
+    public static String envelopeWkt(double lat, double lng, double radiusMeters) {
+        BoundingBox box = boundingBox(lat, lng, radiusMeters);
+        return String.format(Locale.ROOT,
+                "POLYGON((%.8f %.8f, %.8f %.8f, %.8f %.8f, %.8f %.8f, %.8f %.8f))",
+                box.minLng(), box.minLat(), box.maxLng(), box.minLat(), box.maxLng(), box.maxLat(),
+                box.minLng(), box.maxLat(), box.minLng(), box.minLat());
+    }
+
+    /**
+     * 반경을 감싸는 위경도 사각 영역 (created_at, latitude, longitude 복합 인덱스 범위 조회용)
+     */
+    public static BoundingBox boundingBox(double lat, double lng, double radiusMeters) {
+        double latDelta = metersToLatDegrees(radiusMeters);
+        double lngDelta = metersToLngDegrees(radiusMeters, lat) * 1.01; // 평균 위도 보정 여유
+        return new BoundingBox(lat - latDelta, lat + latDelta, lng - lngDelta, lng + lngDelta);
+    }
+
+    public record BoundingBox(double minLat, double maxLat, double minLng, double maxLng) {
+    }
+}
@@ -0,0 +1,270 @@
+package com.example.campung.global.util;
+
+import java.util.Arrays;
+
+/**
+ * long 하나에 담은 geohash (문자열 없이 셀 계산용)
+ *
+ * 형식: 상위 5*precision 비트에 geohash 비트(경도부터 교차)를 왼쪽 정렬하고, 하위 4비트에 정밀도(1~12)를 저장
+ * - 같은 정밀도끼리는 long 비교만으로 동일 셀 여부 판단
+ * - 상위 셀(prefix)은 비트 마스킹으로 계산
+ * - 0L 은 "셀 없음"(위치 모름)
+ *
+ * 이웃 셀은 위도/경도 격자 인덱스를 ±1 하여 다시 교차시키는 방식이라 문자열 테이블 조회가 필요 없음
+ */
+public final class PackedGeohashUtil {
+
+    public static final long NONE = 0L;
+    public static final int MAX_PRECISION = 12;
+
+    private static final long PRECISION_MASK = 0xFL;
+    private static final char[] BASE32 = "0123456789bcdefghjkmnpqrstuvwxyz".toCharArray();
+    private static final int[] BASE32_INDEX = new int[128];
+
+    static {
+        Arrays.fill(BASE32_INDEX, -1);
+        for (int i = 0; i < BASE32.length; i++) {
+            BASE32_INDEX[BASE32[i]] = i;
+        }
+    }
+
+    private PackedGeohashUtil() {
+    }
+
+    /**
+     * 좌표를 주어진 정밀도의 셀로 인코딩 (davidmoten GeoHash.encodeHash 와 같은 셀)
+     */
+    public static long encode(double lat, double lon, int precision) {
+        checkPrecision(precision);
+        int bits = precision * 5;
+        int lonBits = (bits + 1) / 2;
+        int latBits = bits / 2;
+        return pack(bisect(lat, -90.0, 90.0, latBits), bisect(lon, -180.0, 180.0, lonBits), precision);
+    }
+
+    public static int precision(long packed) {
+        return (int) (packed & PRECISION_MASK);
+    }
+
+    /**
+     * 상위 셀 (precision 이 현재보다 크면 그대로 반환)
+     */
+    public static long parent(long packed, int precision) {
+        int current = precision(packed);
+        if (precision >= current) {
+            return packed;
+        }
+        checkPrecision(precision);
+        return (packed & hashMask(precision)) | precision;
+    }
+
+    /**
+     * packed 셀이 prefix 셀 안에 있는지 (문자열 startsWith 와 동일)
+     */
+    public static boolean startsWith(long packed, long prefix) {
+        int prefixPrecision = precision(prefix);
+        if (packed == NONE || prefix == NONE || prefixPrecision > precision(packed)) {
+            return false;
+        }
+        long mask = hashMask(prefixPrecision);
+        return (packed & mask) == (prefix & mask);
+    }
+
+    /**
+     * 위도 방향 dLat, 경도 방향 dLon 만큼 떨어진 셀 (극을 넘어가면 NONE, 경도는 한 바퀴 순환)
+     */
+    public static long neighbor(long packed, int dLat, int dLon) {
+        int precision = precision(packed);
+        int bits = precision * 5;
+        long latCells = 1L << (bits / 2);
+        long lonCells = 1L << ((bits + 1) / 2);
+
+        long latIndex = latIndex(packed) + dLat;
+        if (latIndex < 0 || latIndex >= latCells) {
+            return NONE;
+        }
+        long lonIndex = Math.floorMod(lonIndex(packed) + dLon, lonCells);
+        return pack(latIndex, lonIndex, precision);
+    }
+
+    /**
+     * 중심 셀 + 8개 이웃 셀을 out 에 채우고 개수를 반환 (극 부근에서는 9개 미만)
+     */
+    public static int neighbors3x3(long packed, long[] out) {
+        int count = 0;
+        out[count++] = packed;
+        for (int dLat = 1; dLat >= -1; dLat--) {
+            for (int dLon = -1; dLon <= 1; dLon++) {
+                if (dLat == 0 && dLon == 0) {
+                    continue;
+                }
+                long neighbor = neighbor(packed, dLat, dLon);
+                if (neighbor != NONE) {
+                    out[count++] = neighbor;
+                }
+            }
+        }
+        return count;
+    }
+
+    public static double centerLatitude(long packed) {
+        int latBits = precision(packed) * 5 / 2;
+        return -90.0 + (latIndex(packed) + 0.5) * (180.0 / (1L << latBits));
+    }
+
+    public static double centerLongitude(long packed) {
+        int lonBits = (precision(packed) * 5 + 1) / 2;
+        return -180.0 + (lonIndex(packed) + 0.5) * (360.0 / (1L << lonBits));
+    }
+
+    /**
+     * 셀 높이(위도 차, 도)
+     */
+    public static double heightDegrees(int precision) {
+        return 180.0 / (1L << (precision * 5 / 2));
+    }
+
+    /**
+     * 셀 너비(경도 차, 도)
+     */
+    public static double widthDegrees(int precision) {
+        return 360.0 / (1L << ((precision * 5 + 1) / 2));
+    }
+
+    /**
+     * 셀 경계 {minLat, maxLat, minLng, maxLng}
+     */
+    public static double[] boundingBox(long packed) {
+        int precision = precision(packed);
+        double halfHeight = heightDegrees(precision) / 2;
+        double halfWidth = widthDegrees(precision) / 2;
+        double lat = centerLatitude(packed);
+        double lon = centerLongitude(packed);
+        return new double[] {lat - halfHeight, lat + halfHeight, lon - halfWidth, lon + halfWidth};
+    }
+
+    /**
+     * 사각 영역을 덮는 셀 목록 (경도 180도 경계를 넘는 영역은 고려하지 않음)
+     */
+    public static long[] coverBoundingBox(double minLat, double maxLat, double minLng, double maxLng, int precision) {
+        long south = encode(minLat, minLng, precision);
+        long north = encode(maxLat, maxLng, precision);
+        long minLatIndex = latIndex(south);
+        long maxLatIndex = latIndex(north);
+        long minLonIndex = lonIndex(south);
+        long maxLonIndex = lonIndex(north);
+
+        long[] cells = new long[(int) ((maxLatIndex - minLatIndex + 1) * (maxLonIndex - minLonIndex + 1))];
+        int count = 0;
+        for (long latIndex = minLatIndex; latIndex <= maxLatIndex; latIndex++) {
+            for (long lonIndex = minLonIndex; lonIndex <= maxLonIndex; lonIndex++) {
+                cells[count++] = pack(latIndex, lonIndex, precision);
+            }
+        }
+        return cells;
+    }
+
+    /**
+     * 반경(미터)을 감싸는 사각 영역의 셀 목록
+     */
+    public static long[] coverRadius(double lat, double lon, double radiusMeters, int precision) {
+        double latDelta = GeoDistanceUtil.metersToLatDegrees(radiusMeters);
+        double lngDelta = GeoDistanceUtil.metersToLngDegrees(radiusMeters, lat);
+        return coverBoundingBox(Math.max(-90.0, lat - latDelta), Math.min(90.0, lat + latDelta),
+                lon - lngDelta, lon + lngDelta, precision);
+    }
+
+    public static String toString(long packed) {
+        int precision = precision(packed);
+        char[] chars = new char[precision];
+        for (int i = 0; i < precision; i++) {
+            chars[i] = BASE32[(int) ((packed >>> (59 - i * 5)) & 0x1F)];
+        }
+        return new String(chars);
+    }
+
+    public static long fromString(String geohash) {
+        int precision = geohash.length();
+        checkPrecision(precision);
+        long bits = 0;
+        for (int i = 0; i < precision; i++) {
+            char c = geohash.charAt(i);
+            int value = c < 128 ? BASE32_INDEX[c] : -1;
+            if (value < 0) {
+                throw new IllegalArgumentException("올바르지 않은 geohash 문자: " + geohash);
+            }
+            bits = (bits << 5) | value;
+        }
+        return (bits << (64 - precision * 5)) | precision;
+    }
+
+    private static long pack(long latIndex, long lonIndex, int precision) {
+        int bits = precision * 5;
+        long hashBits = (bits & 1) == 0
+                ? (spread(lonIndex) << 1) | spread(latIndex)
+                : spread(lonIndex) | (spread(latIndex) << 1);
+        return (hashBits << (64 - bits)) | precision;
+    }
+
+    private static long latIndex(long packed) {
+        int bits = precision(packed) * 5;
+        long hashBits = packed >>> (64 - bits);
+        return compact((bits & 1) == 0 ? hashBits : hashBits >>> 1);
+    }
+
+    private static long lonIndex(long packed) {
+        int bits = precision(packed) * 5;
+        long hashBits = packed >>> (64 - bits);
+        return compact((bits & 1) == 0 ? hashBits >>> 1 : hashBits);
+    }
+
+    /**
+     * 구간 이분 탐색으로 격자 인덱스 계산 (문자열 인코더와 같은 경계 판정: 중간값 이상이면 1)
+     */
+    private static long bisect(double value, double min, double max, int bits) {
+        long index = 0;
+        for (int i = 0; i < bits; i++) {
+            double mid = (min + max) / 2;
+            index <<= 1;
+            if (value >= mid) {
+                index |= 1;
+                min = mid;
+            } else {
+                max = mid;
+            }
+        }
+        return index;
+    }
+
+    // 하위 32비트를 짝수 비트 위치로 펼침
+    private static long spread(long x) {
+        x &= 0xFFFFFFFFL;
+        x = (x | (x << 16)) & 0x0000FFFF0000FFFFL;
+        x = (x | (x << 8)) & 0x00FF00FF00FF00FFL;
+        x = (x | (x << 4)) & 0x0F0F0F0F0F0F0F0FL;
+        x = (x | (x << 2)) & 0x3333333333333333L;
+        x = (x | (x << 1)) & 0x5555555555555555L;
+        return x;
+    }
+
+    // spread 의 역연산 (짝수 비트만 모음)
+    private static long compact(long x) {
+        x &= 0x5555555555555555L;
+        x = (x | (x >>> 1)) & 0x3333333333333333L;
+        x = (x | (x >>> 2)) & 0x0F0F0F0F0F0F0F0FL;
+        x = (x | (x >>> 4)) & 0x00FF00FF00FF00FFL;
+        x = (x | (x >>> 8)) & 0x0000FFFF0000FFFFL;
+        x = (x | (x >>> 16)) & 0x00000000FFFFFFFFL;
+        return x;
+    }
+
+    private static long hashMask(int precision) {
+        return -1L << (64 - precision * 5);
+    }
+
+    private static void checkPrecision(int precision) {
+        if (precision < 1 || precision > MAX_PRECISION) {
+            throw new IllegalArgumentException("geohash 정밀도는 1~12 사이여야 합니다: " + precision);
+        }
+    }
+}
@@ -1,11 +1,14 @@
 package com.example.campung.lankmark.entity;
 
 import com.example.campung.global.enums.LandmarkCategory;
+import com.example.campung.global.util.GeoDistanceUtil;
 import jakarta.persistence.*;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnTransformer;
 
 import java.time.LocalDateTime;
 
@@ -33,6 +36,12 @@ public class Landmark {
     @Column(nullable = false)
     private Double longitude;
     
+    // 공간 검색용 POINT 컬럼 (SPATIAL 인덱스), 위경도에서 자동 계산
+    @Getter(AccessLevel.NONE)
+    @Column(name = "location", nullable = false, columnDefinition = "POINT")
+    @ColumnTransformer(read = "ST_AsText(location)", write = "ST_GeomFromText(?)")
+    private String location;
+    
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
     private LandmarkCategory category;
@@ -60,11 +69,13 @@ public class Landmark {
     protected void onCreate() {
         this.createdAt = LocalDateTime.now();
         this.updatedAt = LocalDateTime.now();
+        this.location = GeoDistanceUtil.pointWkt(latitude, longitude);
     }
     
     @PreUpdate
     protected void onUpdate() {
         this.updatedAt = LocalDateTime.now();
+        this.location = GeoDistanceUtil.pointWkt(latitude, longitude);
     }
     
     public void updateSummary(String summary) {
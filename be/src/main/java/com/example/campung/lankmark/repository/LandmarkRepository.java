@@ -1,30 +1,39 @@
 package com.example.campung.lankmark.repository;
 
+import com.example.campung.global.util.GeoDistanceUtil;
 import com.example.campung.lankmark.entity.Landmark;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 @Repository
 public interface LandmarkRepository extends JpaRepository<Landmark, Long> {
     
     /**
      * 특정 위치에서 반경 내의 랜드마크들을 거리순으로 조회
-     * Haversine 공식을 사용하여 거리 계산
+     * location SPATIAL 인덱스로 사각 영역을 거른 뒤 구면 거리로 반경 확인
      */
+    default List<Landmark> findNearbyLandmarks(Double latitude, Double longitude, Integer radiusMeters) {
+        return findAllByIdInOrder(findNearbyLandmarkIds(
+                GeoDistanceUtil.envelopeWkt(latitude, longitude, radiusMeters), latitude, longitude, radiusMeters));
+    }
+    
     @Query(value = """
-        SELECT *, 
-               (6371000 * acos(cos(radians(:latitude)) * cos(radians(latitude)) * 
-                              cos(radians(longitude) - radians(:longitude)) + 
-                              sin(radians(:latitude)) * sin(radians(latitude)))) AS distance
-        FROM landmarks
-        HAVING distance <= :radiusMeters
-        ORDER BY distance
+        SELECT l.id
+        FROM landmarks l
+        WHERE MBRContains(ST_GeomFromText(:envelope), l.location)
+          AND ST_Distance_Sphere(l.location, POINT(:longitude, :latitude)) <= :radiusMeters
+        ORDER BY ST_Distance_Sphere(l.location, POINT(:longitude, :latitude))
         """, nativeQuery = true)
-    List<Landmark> findNearbyLandmarks(
+    List<Long> findNearbyLandmarkIds(
+        @Param("envelope") String envelope,
         @Param("latitude") Double latitude,
         @Param("longitude") Double longitude,
         @Param("radiusMeters") Integer radiusMeters
@@ -32,17 +41,20 @@ public interface LandmarkRepository extends JpaRepository<Landmark, Long> {
     
     /**
      * 특정 위치에서 가장 가까운 랜드마크 찾기
+     * 반경 제한이 없어 인덱스를 쓸 수 없지만 랜드마크 테이블은 작으므로 구면 거리로 정렬
      */
+    default Landmark findNearestLandmark(Double latitude, Double longitude) {
+        List<Long> ids = findNearestLandmarkId(latitude, longitude);
+        return ids.isEmpty() ? null : findById(ids.get(0)).orElse(null);
+    }
+    
     @Query(value = """
-        SELECT *, 
-               (6371000 * acos(cos(radians(:latitude)) * cos(radians(latitude)) * 
-                              cos(radians(longitude) - radians(:longitude)) + 
-                              sin(radians(:latitude)) * sin(radians(latitude)))) AS distance
-        FROM landmarks
-        ORDER BY distance
+        SELECT l.id
+        FROM landmarks l
+        ORDER BY ST_Distance_Sphere(l.location, POINT(:longitude, :latitude))
         LIMIT 1
         """, nativeQuery = true)
-    Landmark findNearestLandmark(
+    List<Long> findNearestLandmarkId(
         @Param("latitude") Double latitude,
         @Param("longitude") Double longitude
     );
@@ -65,19 +77,46 @@ public interface LandmarkRepository extends JpaRepository<Landmark, Long> {
     
     /**
      * 사용자 위치가 각 랜드마크의 개별 radius 범위 내에 있는 랜드마크들을 조회
-     * 각 랜드마크마다 설정된 radius를 사용하여 범위 확인
+     * 가장 큰 radius로 만든 사각 영역을 인덱스 필터로 쓰고, 각 랜드마크의 radius는 구면 거리로 확인
      */
+    default List<Landmark> findLandmarksWithinTheirRadius(Double latitude, Double longitude) {
+        Integer maxRadius = findMaxRadius();
+        if (maxRadius == null) {
+            return List.of();
+        }
+        return findAllByIdInOrder(findLandmarkIdsWithinTheirRadius(
+                GeoDistanceUtil.envelopeWkt(latitude, longitude, maxRadius), latitude, longitude));
+    }
+    
+    @Query("SELECT MAX(l.radius) FROM Landmark l")
+    Integer findMaxRadius();
+    
     @Query(value = """
-        SELECT *, 
-               (6371000 * acos(cos(radians(:latitude)) * cos(radians(latitude)) * 
-                              cos(radians(longitude) - radians(:longitude)) + 
-                              sin(radians(:latitude)) * sin(radians(latitude)))) AS distance
-        FROM landmarks
-        HAVING distance <= radius
-        ORDER BY distance
+        SELECT l.id
+        FROM landmarks l
+        WHERE MBRContains(ST_GeomFromText(:envelope), l.location)
+          AND ST_Distance_Sphere(l.location, POINT(:longitude, :latitude)) <= l.radius
+        ORDER BY ST_Distance_Sphere(l.location, POINT(:longitude, :latitude))
         """, nativeQuery = true)
-    List<Landmark> findLandmarksWithinTheirRadius(
+    List<Long> findLandmarkIdsWithinTheirRadius(
+        @Param("envelope") String envelope,
         @Param("latitude") Double latitude,
         @Param("longitude") Double longitude
     );
-}
\ No newline at end of file
+    
+    /**
+     * id 목록 순서(거리순)를 유지하며 엔티티 조회
+     */
+    private List<Landmark> findAllByIdInOrder(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Integer> order = new HashMap<>();
+        for (int i = 0; i < ids.size(); i++) {
+            order.putIfAbsent(ids.get(i), i);
+        }
+        return findAllById(ids).stream()
+                .sorted(Comparator.comparing(landmark -> order.get(landmark.getId())))
+                .collect(Collectors.toList());
+    }
+}
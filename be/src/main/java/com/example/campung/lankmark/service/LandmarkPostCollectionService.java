@@ -3,6 +3,7 @@ package com.example.campung.lankmark.service;
 import com.example.campung.content.repository.ContentRepository;
 import com.example.campung.geo.service.GeohashService;
 import com.example.campung.global.enums.LandmarkCategory;
+import com.example.campung.global.util.GeoDistanceUtil;
 import com.example.campung.lankmark.entity.Landmark;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -33,6 +34,7 @@ public class LandmarkPostCollectionService {
                     landmark.getLatitude(), landmark.getLongitude(), radius);
                     
             List<Object[]> nearbyContents = contentRepository.findNearbyContents(
+                GeoDistanceUtil.envelopeWkt(landmark.getLatitude(), landmark.getLongitude(), radius),
                 landmark.getLatitude(),
                 landmark.getLongitude(),
                 radius
@@ -69,6 +71,7 @@ public class LandmarkPostCollectionService {
         
         try {
             List<Object[]> nearbyContents = contentRepository.findNearbyContents(
+                GeoDistanceUtil.envelopeWkt(landmark.getLatitude(), landmark.getLongitude(), customRadius),
                 landmark.getLatitude(),
                 landmark.getLongitude(),
                 customRadius
@@ -1,27 +1,41 @@
 package com.example.campung.main.controller;
 
 import com.example.campung.global.enums.PostType;
+import com.example.campung.main.dto.MapClusterResponse;
+import com.example.campung.main.dto.MapContentChangesResponse;
 import com.example.campung.main.dto.MapContentRequest;
 import com.example.campung.main.dto.MapContentResponse;
+import com.example.campung.main.service.MapClusterService;
 import com.example.campung.main.service.MapContentService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
 
 @RestController
 @RequestMapping("/api/map")
 @Tag(name = "Map Content", description = "지도 콘텐츠 API")
 public class MapContentController {
 
+    private static final int MAX_LIMIT = 500;
+    private static final Pattern GEOHASH_CELL = Pattern.compile("^[0-9b-hj-km-np-z]{1,8}$");
+
     @Autowired
     private MapContentService mapContentService;
 
+    @Autowired
+    private MapClusterService mapClusterService;
+
     @Operation(summary = "지도 콘텐츠 조회", description = "위치 기반으로 주변 콘텐츠를 조회합니다.")
     @GetMapping("/contents")
     public ResponseEntity<MapContentResponse> getMapContents(
@@ -38,7 +52,13 @@ public class MapContentController {
             @RequestParam(required = false) String postType,
             
             @Parameter(description = "조회할 날짜 (YYYY-MM-DD), 기본값: 오늘")
-            @RequestParam(required = false) String date) {
+            @RequestParam(required = false) String date,
+            
+            @Parameter(description = "최대 조회 개수 (콘텐츠/녹음파일 각각), 없으면 반경 내 전체")
+            @RequestParam(required = false) Integer limit,
+            
+            @Parameter(description = "정렬 기준 (latest: 최신순, distance: 가까운 순), 기본값: latest")
+            @RequestParam(defaultValue = "latest") String sort) {
 
         // 파라미터 검증
         if (lat == null || lng == null) {
@@ -56,6 +76,16 @@ public class MapContentController {
             return ResponseEntity.badRequest().body(errorResponse);
         }
 
+        if (limit != null && (limit < 1 || limit > MAX_LIMIT)) {
+            MapContentResponse errorResponse = new MapContentResponse(false, "limit은 1 이상 " + MAX_LIMIT + " 이하여야 합니다");
+            return ResponseEntity.badRequest().body(errorResponse);
+        }
+
+        if (!sort.equalsIgnoreCase("latest") && !sort.equalsIgnoreCase("distance")) {
+            MapContentResponse errorResponse = new MapContentResponse(false, "정렬 기준은 latest 또는 distance입니다");
+            return ResponseEntity.badRequest().body(errorResponse);
+        }
+
         // PostType 검증
         PostType postTypeEnum = null;
         if (postType != null && !postType.trim().isEmpty() && !postType.equalsIgnoreCase("ALL")) {
@@ -79,10 +109,70 @@ public class MapContentController {
         request.setRadius(radius);
         request.setPostType(postTypeEnum);
         request.setDate(date);
+        request.setLimit(limit);
+        request.setSort(sort.toLowerCase());
 
         // 서비스 호출
         MapContentResponse response = mapContentService.getMapContents(request);
 
         return ResponseEntity.ok(response);
     }
-}
\ No newline at end of file
+
+    @Operation(summary = "지도 콘텐츠 변경분 조회", description = "커서(지도 콘텐츠 조회 응답의 cursor 또는 이전 변경분 응답의 cursor) 이후 생성/수정/삭제/HOT 변경된 오늘 콘텐츠와 녹음파일만 조회합니다.")
+    @GetMapping("/contents/changes")
+    public ResponseEntity<MapContentChangesResponse> getMapContentChanges(
+            @Parameter(description = "마지막으로 받은 커서", required = true)
+            @RequestParam Long since,
+
+            @Parameter(description = "조회할 geohash 셀 목록(1~8자리, 쉼표 구분), 없으면 전체")
+            @RequestParam(required = false) List<String> cell) {
+
+        Set<String> cellPrefixes = new LinkedHashSet<>();
+        if (cell != null) {
+            for (String hash : cell) {
+                String trimmed = hash.trim().toLowerCase();
+                if (!GEOHASH_CELL.matcher(trimmed).matches()) {
+                    return ResponseEntity.badRequest().body(MapContentChangesResponse.builder()
+                            .success(false)
+                            .message("유효하지 않은 geohash 셀입니다: " + hash)
+                            .build());
+                }
+                cellPrefixes.add(trimmed);
+            }
+        }
+
+        return ResponseEntity.ok(mapContentService.getMapContentChanges(since, cellPrefixes));
+    }
+
+    @Operation(summary = "지도 콘텐츠 클러스터 조회", description = "화면 영역 안의 오늘 콘텐츠를 줌 레벨에 맞는 geohash 셀 단위 클러스터로 조회합니다.")
+    @GetMapping("/clusters")
+    public ResponseEntity<MapClusterResponse> getMapClusters(
+            @Parameter(description = "영역 남쪽 위도", required = true)
+            @RequestParam Double minLat,
+
+            @Parameter(description = "영역 북쪽 위도", required = true)
+            @RequestParam Double maxLat,
+
+            @Parameter(description = "영역 서쪽 경도", required = true)
+            @RequestParam Double minLng,
+
+            @Parameter(description = "영역 동쪽 경도", required = true)
+            @RequestParam Double maxLng,
+
+            @Parameter(description = "지도 줌 레벨, 기본값: 14")
+            @RequestParam(defaultValue = "14") Integer zoom) {
+
+        if (minLat < -90 || maxLat > 90 || minLng < -180 || maxLng > 180 || minLat > maxLat || minLng > maxLng) {
+            return ResponseEntity.badRequest().body(MapClusterResponse.builder()
+                    .success(false)
+                    .message("유효하지 않은 영역입니다")
+                    .build());
+        }
+
+        MapClusterResponse response = mapClusterService.getClusters(minLat, maxLat, minLng, maxLng, zoom);
+        if (!response.isSuccess()) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(response);
+        }
+        return ResponseEntity.ok(response);
+    }
+}
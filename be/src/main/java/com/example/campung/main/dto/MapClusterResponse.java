@@ -0,0 +1,57 @@
+package com.example.campung.main.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MapClusterResponse {
+    private boolean success;
+    private String message;
+    private MapClusterData data;
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class MapClusterData {
+        private int precision;
+        private int totalCount;
+        private List<ClusterItem> clusters;
+    }
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ClusterItem {
+        private String geohash;
+        private int count;
+        private Double latitude;
+        private Double longitude;
+        private String dominantPostType;
+        private String markerType;
+        private Map<String, Integer> postTypeCounts;
+        private ClusterTopItem topItem;
+    }
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ClusterTopItem {
+        private Long contentId;
+        private String title;
+        private String postType;
+        private String markerType;
+        private String thumbnailUrl;
+        private int likeCount;
+    }
+}
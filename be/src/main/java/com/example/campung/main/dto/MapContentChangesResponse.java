@@ -0,0 +1,35 @@
+package com.example.campung.main.dto;
+
+import com.example.campung.main.dto.MapContentResponse.MapContentItem;
+import com.example.campung.main.dto.MapContentResponse.RecordItem;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MapContentChangesResponse {
+    private boolean success;
+    private String message;
+    private MapContentChangesData data;
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class MapContentChangesData {
+        // 다음 요청의 since로 사용할 커서
+        private long cursor;
+        // true면 변경분 대신 /api/map/contents 전체 조회 필요
+        private boolean resyncRequired;
+        private List<MapContentItem> contents;
+        private List<RecordItem> records;
+        private List<Long> deletedContentIds;
+        private List<Long> deletedRecordIds;
+    }
+}
@@ -12,6 +12,8 @@ public class MapContentRequest {
     private Integer radius = 500; // 기본값: 500미터
     private PostType postType;
     private String date;
+    private Integer limit; // null이면 반경 내 전체
+    private String sort = "latest"; // latest: 최신순, distance: 가까운 순
 
     public Double getLat() {
         return lat;
@@ -52,4 +54,20 @@ public class MapContentRequest {
     public void setDate(String date) {
         this.date = date;
     }
-}
\ No newline at end of file
+
+    public Integer getLimit() {
+        return limit;
+    }
+
+    public void setLimit(Integer limit) {
+        this.limit = limit;
+    }
+
+    public String getSort() {
+        return sort;
+    }
+
+    public void setSort(String sort) {
+        this.sort = sort;
+    }
+}
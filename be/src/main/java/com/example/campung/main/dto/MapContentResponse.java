@@ -29,6 +29,8 @@ public class MapContentResponse {
         private Double emotionTemperature;
         private Double maxTemperature;
         private Double minTemperature;
+        // 오늘 조회일 때 변경 로그 커서 (이후 /changes?since= 로 증분 조회, 다른 날짜나 일부 분기가 기본값으로 대체된 경우 null)
+        private Long cursor;
 
         public MapContentData(List<MapContentItem> contents) {
             this.contents = contents;
@@ -113,6 +115,14 @@ public class MapContentResponse {
         public void setMinTemperature(Double minTemperature) {
             this.minTemperature = minTemperature;
         }
+
+        public Long getCursor() {
+            return cursor;
+        }
+
+        public void setCursor(Long cursor) {
+            this.cursor = cursor;
+        }
     }
 
     public static class MapContentItem {
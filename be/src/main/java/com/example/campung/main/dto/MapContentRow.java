@@ -0,0 +1,27 @@
+package com.example.campung.main.dto;
+
+import com.example.campung.global.enums.PostType;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 지도 콘텐츠 조회용 평탄화 프로젝션 (콘텐츠 x 첨부파일 1행)
+ * 첨부파일이 없으면 attachmentUrl/thumbnailUrl이 null인 1행
+ */
+public record MapContentRow(Long contentId,
+                            String userId,
+                            String nickname,
+                            Boolean isAnonymous,
+                            BigDecimal latitude,
+                            BigDecimal longitude,
+                            PostType postType,
+                            String title,
+                            String body,
+                            String emotion,
+                            Integer likeCount,
+                            Integer commentCount,
+                            LocalDateTime createdAt,
+                            String attachmentUrl,
+                            String thumbnailUrl) {
+}
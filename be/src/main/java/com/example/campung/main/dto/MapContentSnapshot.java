@@ -0,0 +1,117 @@
+package com.example.campung.main.dto;
+
+import com.example.campung.entity.Attachment;
+import com.example.campung.entity.Content;
+import com.example.campung.global.enums.PostType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 지도 마커 렌더링에 필요한 콘텐츠 정보만 평탄화한 읽기 모델
+ * 지연 로딩 연관관계(author, attachments)에 의존하지 않으므로 메모리 인덱스에 보관할 수 있음
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class MapContentSnapshot {
+
+    private final Long contentId;
+    private final String userId;
+    private final String nickname;
+    private final boolean anonymous;
+    private final double latitude;
+    private final double longitude;
+    private final PostType postType;
+    private final String title;
+    private final String body;
+    private final String emotion;
+    private final String firstAttachmentUrl;
+    private final List<String> thumbnailUrls;
+    private final LocalDateTime createdAt;
+
+    // 좋아요/댓글 수는 인덱스에 올라간 뒤에도 갱신됨
+    private volatile int likeCount;
+    private volatile int commentCount;
+
+    public static MapContentSnapshot from(Content content) {
+        List<Attachment> attachments = content.getAttachments();
+        boolean hasAttachments = attachments != null && !attachments.isEmpty();
+
+        return MapContentSnapshot.builder()
+                .contentId(content.getContentId())
+                .userId(content.getAuthor().getUserId())
+                .nickname(content.getAuthor().getNickname())
+                .anonymous(Boolean.TRUE.equals(content.getIsAnonymous()))
+                .latitude(content.getLatitude().doubleValue())
+                .longitude(content.getLongitude().doubleValue())
+                .postType(content.getPostType())
+                .title(content.getTitle())
+                .body(content.getContent())
+                .emotion(content.getEmotion())
+                .firstAttachmentUrl(hasAttachments ? attachments.get(0).getUrl() : null)
+                .thumbnailUrls(hasAttachments
+                        ? attachments.stream().map(Attachment::getThumbnailUrl).collect(Collectors.toList())
+                        : List.of())
+                .createdAt(content.getCreatedAt())
+                .likeCount(content.getLikeCount() != null ? content.getLikeCount() : 0)
+                .commentCount(content.getCommentCount() != null ? content.getCommentCount() : 0)
+                .build();
+    }
+
+    /**
+     * 프로젝션 행(콘텐츠 x 첨부파일)을 콘텐츠 단위 스냅샷으로 묶음 (조회 순서 유지)
+     */
+    public static List<MapContentSnapshot> fromRows(List<MapContentRow> rows) {
+        Map<Long, List<MapContentRow>> rowsByContentId = new LinkedHashMap<>();
+        for (MapContentRow row : rows) {
+            rowsByContentId.computeIfAbsent(row.contentId(), id -> new ArrayList<>()).add(row);
+        }
+
+        List<MapContentSnapshot> snapshots = new ArrayList<>(rowsByContentId.size());
+        for (List<MapContentRow> contentRows : rowsByContentId.values()) {
+            MapContentRow first = contentRows.get(0);
+
+            List<String> thumbnailUrls = new ArrayList<>();
+            for (MapContentRow row : contentRows) {
+                if (row.attachmentUrl() != null) {
+                    thumbnailUrls.add(row.thumbnailUrl());
+                }
+            }
+
+            snapshots.add(MapContentSnapshot.builder()
+                    .contentId(first.contentId())
+                    .userId(first.userId())
+                    .nickname(first.nickname())
+                    .anonymous(Boolean.TRUE.equals(first.isAnonymous()))
+                    .latitude(first.latitude().doubleValue())
+                    .longitude(first.longitude().doubleValue())
+                    .postType(first.postType())
+                    .title(first.title())
+                    .body(first.body())
+                    .emotion(first.emotion())
+                    .firstAttachmentUrl(first.attachmentUrl())
+                    .thumbnailUrls(thumbnailUrls)
+                    .createdAt(first.createdAt())
+                    .likeCount(first.likeCount() != null ? first.likeCount() : 0)
+                    .commentCount(first.commentCount() != null ? first.commentCount() : 0)
+                    .build());
+        }
+        return snapshots;
+    }
+
+    public void setLikeCount(int likeCount) {
+        this.likeCount = likeCount;
+    }
+
+    public void setCommentCount(int commentCount) {
+        this.commentCount = commentCount;
+    }
+}
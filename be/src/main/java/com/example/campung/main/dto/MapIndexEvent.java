@@ -0,0 +1,45 @@
+package com.example.campung.main.dto;
+
+/**
+ * 노드 간 지도 인덱스 동기화 이벤트
+ * 콘텐츠 본문은 싣지 않고 id만 보내며, 수신 노드는 커밋된 DB 값을 다시 읽어 반영
+ *
+ * @param type      변경 종류
+ * @param contentId 대상 콘텐츠 id (REBUILD, HOT_CHANGED 는 null)
+ * @param count     LIKE_COUNT / COMMENT_COUNT 의 변경 후 값
+ */
+public record MapIndexEvent(Type type, Long contentId, Integer count) {
+
+    public enum Type {
+        SAVED,
+        DELETED,
+        LIKE_COUNT,
+        COMMENT_COUNT,
+        HOT_CHANGED,
+        REBUILD
+    }
+
+    public static MapIndexEvent saved(Long contentId) {
+        return new MapIndexEvent(Type.SAVED, contentId, null);
+    }
+
+    public static MapIndexEvent deleted(Long contentId) {
+        return new MapIndexEvent(Type.DELETED, contentId, null);
+    }
+
+    public static MapIndexEvent likeCount(Long contentId, int likeCount) {
+        return new MapIndexEvent(Type.LIKE_COUNT, contentId, likeCount);
+    }
+
+    public static MapIndexEvent commentCount(Long contentId, int commentCount) {
+        return new MapIndexEvent(Type.COMMENT_COUNT, contentId, commentCount);
+    }
+
+    public static MapIndexEvent hotChanged() {
+        return new MapIndexEvent(Type.HOT_CHANGED, null, null);
+    }
+
+    public static MapIndexEvent rebuild() {
+        return new MapIndexEvent(Type.REBUILD, null, null);
+    }
+}
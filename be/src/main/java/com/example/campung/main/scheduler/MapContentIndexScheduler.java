@@ -0,0 +1,43 @@
+package com.example.campung.main.scheduler;
+
+import com.example.campung.main.service.MapContentIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 지도 콘텐츠 인덱스 구성 스케줄러
+ * 서버 기동 시 1회, 매일 새벽 5시(캠퍼스 날짜 변경) 재구성
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MapContentIndexScheduler {
+
+    private final MapContentIndex mapContentIndex;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        rebuildIndex();
+    }
+
+    /**
+     * cron: "0 0 5 * * *" = 매일 오전 5시 0분 0초
+     */
+    @Scheduled(cron = "0 0 5 * * *")
+    public void rebuildOnCampusDateRollover() {
+        rebuildIndex();
+    }
+
+    private void rebuildIndex() {
+        try {
+            mapContentIndex.rebuild();
+        } catch (Exception e) {
+            // 인덱스 구성 실패 시 지도 조회는 DB 경로로 처리됨
+            log.error("지도 콘텐츠 인덱스 재구성 실패: {}", e.getMessage(), e);
+        }
+    }
+}
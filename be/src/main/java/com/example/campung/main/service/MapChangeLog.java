@@ -0,0 +1,168 @@
+package com.example.campung.main.service;
+
+import com.example.campung.geo.service.GeohashService;
+import com.example.campung.global.util.AfterCommitUtil;
+import com.example.campung.global.util.PackedGeohashUtil;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 지도 콘텐츠/녹음파일 변경 로그 (고정 크기 링 버퍼)
+ * 변경마다 단조 증가 커서를 발급하고, 클라이언트는 마지막으로 받은 커서 이후의 변경만 조회
+ * 오래되어 버퍼에서 밀려난 커서나 재구성(캠퍼스 날짜 변경) 이전 커서는 전체 재동기화 대상
+ *
+ * 버퍼는 노드(서버 프로세스)마다 따로 있으므로 커서 상위 비트에 기동 시 발급받은 epoch 를 넣어
+ * 다른 노드나 재시작 이전 프로세스가 발급한 커서는 전체 재동기화로 처리
+ * (커서 = epoch << 32 | 순번, JS 숫자 정밀도(2^53) 안에 들어가도록 epoch 는 21비트)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MapChangeLog {
+
+    private static final int CAPACITY = 10_000;
+    private static final String EPOCH_KEY = "map:changelog:epoch";
+    private static final int SEQUENCE_BITS = 32;
+    private static final long EPOCH_LIMIT = 1L << 21;
+
+    public enum Target { CONTENT, RECORD }
+
+    private final GeohashService geohashService;
+    private final StringRedisTemplate stringRedisTemplate;
+
+    private final long[] cursors = new long[CAPACITY];
+    private final Target[] targets = new Target[CAPACITY];
+    private final long[] ids = new long[CAPACITY];
+    // geohash 8자리 (long 인코딩, 위치 모름은 PackedGeohashUtil.NONE)
+    private final long[] geohashes = new long[CAPACITY];
+    private int head; // 가장 오래된 항목 위치
+    private int size;
+
+    // 이 노드가 발급하는 커서의 epoch (기동 시 결정)
+    private long epoch;
+    private long lastCursor;
+    // 이 커서 이하로는 변경 내역을 보장할 수 없음
+    private long lowWatermark;
+
+    /**
+     * 노드마다 겹치지 않는 epoch 를 Redis INCR 로 발급 (Redis 를 쓸 수 없으면 임의 값)
+     */
+    @PostConstruct
+    public synchronized void init() {
+        long issued;
+        try {
+            Long value = stringRedisTemplate.opsForValue().increment(EPOCH_KEY);
+            issued = value != null ? value : ThreadLocalRandom.current().nextLong(EPOCH_LIMIT);
+        } catch (Exception e) {
+            log.warn("지도 변경 로그 epoch 발급 실패, 임의 값 사용: {}", e.getMessage());
+            issued = ThreadLocalRandom.current().nextLong(EPOCH_LIMIT);
+        }
+        // 0 은 쓰지 않음 (1 ~ 2^21-1 순환)
+        epoch = Math.floorMod(issued, EPOCH_LIMIT - 1) + 1;
+        lastCursor = epoch << SEQUENCE_BITS;
+        lowWatermark = lastCursor;
+        log.info("지도 변경 로그 초기화: epoch={}", epoch);
+    }
+
+    /**
+     * 변경 기록 (트랜잭션 안이면 커밋 이후에 기록하여 조회 시 커밋 전 상태를 보지 않도록 함)
+     */
+    public void record(Target target, Long id, Double lat, Double lng) {
+        if (id == null) {
+            return;
+        }
+        // 위치를 모르는 변경은 모든 셀 조회에 포함
+        long geohash = lat != null && lng != null ? geohashService.packedGeohash(lat, lng, 8) : PackedGeohashUtil.NONE;
+
+        AfterCommitUtil.run(() -> append(target, id, geohash));
+    }
+
+    /**
+     * 기존 커서를 모두 무효화 (인덱스 재구성 시)
+     */
+    public synchronized void reset() {
+        head = 0;
+        size = 0;
+        lowWatermark = nextCursor();
+    }
+
+    public synchronized long currentCursor() {
+        return lastCursor;
+    }
+
+    /**
+     * since 이후 변경된 id 목록 (cellPrefixes가 비어 있으면 전체 셀)
+     */
+    public synchronized ChangeSet changesSince(long since, Set<String> cellPrefixes) {
+        // 다른 노드/이전 프로세스의 커서이거나 버퍼 범위를 벗어난 커서
+        if ((since >>> SEQUENCE_BITS) != epoch || since < lowWatermark || since > lastCursor) {
+            return new ChangeSet(lastCursor, true, Set.of(), Set.of());
+        }
+
+        long[] prefixes = toPackedPrefixes(cellPrefixes);
+        Set<Long> contentIds = new LinkedHashSet<>();
+        Set<Long> recordIds = new LinkedHashSet<>();
+        for (int i = 0; i < size; i++) {
+            int slot = (head + i) % CAPACITY;
+            if (cursors[slot] <= since || !matches(geohashes[slot], prefixes)) {
+                continue;
+            }
+            (targets[slot] == Target.CONTENT ? contentIds : recordIds).add(ids[slot]);
+        }
+        return new ChangeSet(lastCursor, false, contentIds, recordIds);
+    }
+
+    private synchronized void append(Target target, long id, long geohash) {
+        int slot;
+        if (size == CAPACITY) {
+            slot = head;
+            lowWatermark = cursors[slot];
+            head = (head + 1) % CAPACITY;
+        } else {
+            slot = (head + size) % CAPACITY;
+            size++;
+        }
+        cursors[slot] = nextCursor();
+        targets[slot] = target;
+        ids[slot] = id;
+        geohashes[slot] = geohash;
+    }
+
+    private long nextCursor() {
+        return ++lastCursor;
+    }
+
+    private static long[] toPackedPrefixes(Set<String> cellPrefixes) {
+        if (cellPrefixes == null || cellPrefixes.isEmpty()) {
+            return new long[0];
+        }
+        long[] prefixes = new long[cellPrefixes.size()];
+        int i = 0;
+        for (String prefix : cellPrefixes) {
+            prefixes[i++] = PackedGeohashUtil.fromString(prefix);
+        }
+        return prefixes;
+    }
+
+    private static boolean matches(long geohash, long[] prefixes) {
+        if (geohash == PackedGeohashUtil.NONE || prefixes.length == 0) {
+            return true;
+        }
+        for (long prefix : prefixes) {
+            if (PackedGeohashUtil.startsWith(geohash, prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public record ChangeSet(long cursor, boolean resyncRequired, Set<Long> contentIds, Set<Long> recordIds) {
+    }
+}
@@ -0,0 +1,245 @@
+package com.example.campung.main.service;
+
+import com.example.campung.geo.service.GeohashService;
+import com.example.campung.global.enums.PostType;
+import com.example.campung.global.util.PackedGeohashUtil;
+import com.example.campung.main.dto.MapContentSnapshot;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 지도 콘텐츠 인덱스를 geohash 셀(정밀도 5~7) 단위로 집계한 클러스터
+ * 콘텐츠가 인덱스에 들어오고 나갈 때 MapContentIndex가 함께 갱신하며,
+ * 대표 게시글(좋아요 최다)은 변경이 있을 때만 조회 시점에 다시 계산
+ */
+@Component
+@RequiredArgsConstructor
+public class MapClusterIndex {
+
+    public static final int MIN_PRECISION = 5;
+    public static final int MAX_PRECISION = 7;
+
+    private static final PostType[] POST_TYPES = PostType.values();
+
+    private final GeohashService geohashService;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final List<Map<Long, ClusterCell>> cellsByPrecision = createLevels();
+
+    private static List<Map<Long, ClusterCell>> createLevels() {
+        List<Map<Long, ClusterCell>> levels = new ArrayList<>();
+        for (int precision = MIN_PRECISION; precision <= MAX_PRECISION; precision++) {
+            levels.add(new HashMap<>());
+        }
+        return levels;
+    }
+
+    void clear() {
+        lock.writeLock().lock();
+        try {
+            cellsByPrecision.forEach(Map::clear);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void add(MapContentSnapshot snapshot) {
+        long hash = geohashService.packedGeohash(snapshot.getLatitude(), snapshot.getLongitude(), MAX_PRECISION);
+
+        lock.writeLock().lock();
+        try {
+            for (int precision = MIN_PRECISION; precision <= MAX_PRECISION; precision++) {
+                long cellHash = PackedGeohashUtil.parent(hash, precision);
+                cells(precision).computeIfAbsent(cellHash, ClusterCell::new).add(snapshot);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void remove(MapContentSnapshot snapshot) {
+        long hash = geohashService.packedGeohash(snapshot.getLatitude(), snapshot.getLongitude(), MAX_PRECISION);
+
+        lock.writeLock().lock();
+        try {
+            for (int precision = MIN_PRECISION; precision <= MAX_PRECISION; precision++) {
+                long cellHash = PackedGeohashUtil.parent(hash, precision);
+                ClusterCell cell = cells(precision).get(cellHash);
+                if (cell != null && cell.remove(snapshot) && cell.count == 0) {
+                    cells(precision).remove(cellHash);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 좋아요 수 변경 시 대표 게시글 재계산 표시
+     */
+    void onLikeCountChanged(MapContentSnapshot snapshot) {
+        long hash = geohashService.packedGeohash(snapshot.getLatitude(), snapshot.getLongitude(), MAX_PRECISION);
+
+        lock.readLock().lock();
+        try {
+            for (int precision = MIN_PRECISION; precision <= MAX_PRECISION; precision++) {
+                ClusterCell cell = cells(precision).get(PackedGeohashUtil.parent(hash, precision));
+                if (cell != null) {
+                    cell.topDirty = true;
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 사각 영역과 겹치는 클러스터 조회
+     */
+    public List<Cluster> findClusters(double minLat, double maxLat, double minLng, double maxLng, int precision) {
+        List<Cluster> result = new ArrayList<>();
+
+        lock.readLock().lock();
+        try {
+            Map<Long, ClusterCell> cells = cells(precision);
+            long coverCount = geohashService.estimateCoverCount(minLat, maxLat, minLng, maxLng, precision);
+
+            if (coverCount > cells.size()) {
+                // 영역이 넓으면 커버 셀을 만드는 것보다 존재하는 셀만 보는 편이 빠름
+                for (ClusterCell cell : cells.values()) {
+                    if (cell.intersects(minLat, maxLat, minLng, maxLng)) {
+                        result.add(cell.toCluster());
+                    }
+                }
+            } else {
+                long[] cover = PackedGeohashUtil.coverBoundingBox(minLat, maxLat, minLng, maxLng, precision);
+                for (long cellHash : cover) {
+                    ClusterCell cell = cells.get(cellHash);
+                    if (cell != null) {
+                        result.add(cell.toCluster());
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        return result;
+    }
+
+    private Map<Long, ClusterCell> cells(int precision) {
+        return cellsByPrecision.get(precision - MIN_PRECISION);
+    }
+
+    /**
+     * 조회 결과로 내보내는 클러스터 값 (셀 상태의 복사본)
+     */
+    public record Cluster(String geohash, int count, double latitude, double longitude,
+                          Map<PostType, Integer> postTypeCounts, PostType dominantPostType,
+                          MapContentSnapshot top) {
+    }
+
+    private static final class ClusterCell {
+        private final String geohash;
+        private final double minLat;
+        private final double maxLat;
+        private final double minLng;
+        private final double maxLng;
+
+        private final Map<Long, MapContentSnapshot> members = new LinkedHashMap<>();
+        private final int[] postTypeCounts = new int[POST_TYPES.length];
+        private int count;
+        private double sumLat;
+        private double sumLng;
+
+        private MapContentSnapshot top;
+        private volatile boolean topDirty;
+
+        ClusterCell(long packedGeohash) {
+            double[] bounds = PackedGeohashUtil.boundingBox(packedGeohash);
+            this.geohash = PackedGeohashUtil.toString(packedGeohash);
+            this.minLat = bounds[0];
+            this.maxLat = bounds[1];
+            this.minLng = bounds[2];
+            this.maxLng = bounds[3];
+        }
+
+        void add(MapContentSnapshot snapshot) {
+            if (members.put(snapshot.getContentId(), snapshot) != null) {
+                return;
+            }
+            count++;
+            sumLat += snapshot.getLatitude();
+            sumLng += snapshot.getLongitude();
+            postTypeCounts[snapshot.getPostType().ordinal()]++;
+
+            if (!topDirty && (top == null || isBetter(snapshot, top))) {
+                top = snapshot;
+            }
+        }
+
+        boolean remove(MapContentSnapshot snapshot) {
+            MapContentSnapshot removed = members.remove(snapshot.getContentId());
+            if (removed == null) {
+                return false;
+            }
+            count--;
+            sumLat -= removed.getLatitude();
+            sumLng -= removed.getLongitude();
+            postTypeCounts[removed.getPostType().ordinal()]--;
+
+            if (top == removed) {
+                topDirty = true;
+            }
+            return true;
+        }
+
+        boolean intersects(double south, double north, double west, double east) {
+            return minLat <= north && maxLat >= south && minLng <= east && maxLng >= west;
+        }
+
+        Cluster toCluster() {
+            Map<PostType, Integer> counts = new LinkedHashMap<>();
+            PostType dominant = null;
+            for (PostType postType : POST_TYPES) {
+                int typeCount = postTypeCounts[postType.ordinal()];
+                if (typeCount > 0) {
+                    counts.put(postType, typeCount);
+                    if (dominant == null || typeCount > postTypeCounts[dominant.ordinal()]) {
+                        dominant = postType;
+                    }
+                }
+            }
+            return new Cluster(geohash, count, sumLat / count, sumLng / count, counts, dominant, top());
+        }
+
+        // 읽기 락 아래에서 여러 요청이 동시에 재계산할 수 있으므로 셀 단위로 동기화
+        private synchronized MapContentSnapshot top() {
+            if (topDirty) {
+                MapContentSnapshot best = null;
+                for (MapContentSnapshot member : members.values()) {
+                    if (best == null || isBetter(member, best)) {
+                        best = member;
+                    }
+                }
+                top = best;
+                topDirty = false;
+            }
+            return top;
+        }
+
+        private static boolean isBetter(MapContentSnapshot candidate, MapContentSnapshot current) {
+            if (candidate.getLikeCount() != current.getLikeCount()) {
+                return candidate.getLikeCount() > current.getLikeCount();
+            }
+            return candidate.getCreatedAt().isAfter(current.getCreatedAt());
+        }
+    }
+}
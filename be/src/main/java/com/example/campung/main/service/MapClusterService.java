@@ -0,0 +1,109 @@
+package com.example.campung.main.service;
+
+import com.example.campung.content.service.ContentHotService;
+import com.example.campung.global.enums.MarkerType;
+import com.example.campung.global.enums.PostType;
+import com.example.campung.global.util.CampusDateUtil;
+import com.example.campung.main.dto.MapClusterResponse;
+import com.example.campung.main.dto.MapClusterResponse.ClusterItem;
+import com.example.campung.main.dto.MapClusterResponse.ClusterTopItem;
+import com.example.campung.main.dto.MapClusterResponse.MapClusterData;
+import com.example.campung.main.dto.MapContentSnapshot;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 줌 레벨에 맞는 geohash 정밀도로 오늘 콘텐츠 클러스터를 조회
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class MapClusterService {
+
+    private final MapContentIndex mapContentIndex;
+    private final MapClusterIndex mapClusterIndex;
+    private final ContentHotService contentHotService;
+
+    /**
+     * 줌 레벨 -> geohash 정밀도
+     * 13 이하: 5자리(약 4.9km), 14~15: 6자리(약 1.2km x 0.6km), 16 이상: 7자리(약 150m)
+     */
+    public static int precisionForZoom(int zoom) {
+        if (zoom <= 13) {
+            return 5;
+        }
+        if (zoom <= 15) {
+            return 6;
+        }
+        return MapClusterIndex.MAX_PRECISION;
+    }
+
+    public MapClusterResponse getClusters(double minLat, double maxLat, double minLng, double maxLng, int zoom) {
+        if (!mapContentIndex.isServing(CampusDateUtil.getCurrentCampusDate())) {
+            return MapClusterResponse.builder()
+                    .success(false)
+                    .message("지도 클러스터를 준비 중입니다")
+                    .build();
+        }
+
+        int precision = precisionForZoom(zoom);
+        List<MapClusterIndex.Cluster> clusters = mapClusterIndex.findClusters(minLat, maxLat, minLng, maxLng, precision);
+
+        List<ClusterItem> items = clusters.stream()
+                .map(this::toClusterItem)
+                .collect(Collectors.toList());
+        int totalCount = clusters.stream().mapToInt(MapClusterIndex.Cluster::count).sum();
+
+        log.debug("지도 클러스터 조회 - zoom: {}, precision: {}, 클러스터 수: {}, 콘텐츠 수: {}",
+                zoom, precision, items.size(), totalCount);
+
+        return MapClusterResponse.builder()
+                .success(true)
+                .message("지도 클러스터 조회 성공")
+                .data(MapClusterData.builder()
+                        .precision(precision)
+                        .totalCount(totalCount)
+                        .clusters(items)
+                        .build())
+                .build();
+    }
+
+    private ClusterItem toClusterItem(MapClusterIndex.Cluster cluster) {
+        Map<String, Integer> postTypeCounts = new LinkedHashMap<>();
+        cluster.postTypeCounts().forEach((postType, count) -> postTypeCounts.put(postType.name(), count));
+
+        return ClusterItem.builder()
+                .geohash(cluster.geohash())
+                .count(cluster.count())
+                .latitude(cluster.latitude())
+                .longitude(cluster.longitude())
+                .dominantPostType(cluster.dominantPostType().name())
+                .markerType(MarkerType.fromPostType(cluster.dominantPostType()).getMarkerType())
+                .postTypeCounts(postTypeCounts)
+                .topItem(toTopItem(cluster.top()))
+                .build();
+    }
+
+    private ClusterTopItem toTopItem(MapContentSnapshot top) {
+        if (top == null) {
+            return null;
+        }
+        // 지도 콘텐츠 조회와 동일하게 HOT 게시글은 HOT 마커로 표시
+        PostType postType = contentHotService.isHotContent(top.getContentId()) ? PostType.HOT : top.getPostType();
+
+        return ClusterTopItem.builder()
+                .contentId(top.getContentId())
+                .title(top.getTitle())
+                .postType(postType.name())
+                .markerType(MarkerType.fromPostType(postType).getMarkerType())
+                .thumbnailUrl(top.getThumbnailUrls().isEmpty() ? null : top.getThumbnailUrls().get(0))
+                .likeCount(top.getLikeCount())
+                .build();
+    }
+}
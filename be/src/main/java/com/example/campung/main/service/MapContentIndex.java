@@ -0,0 +1,544 @@
+package com.example.campung.main.service;
+
+import com.example.campung.content.repository.ContentRepository;
+import com.example.campung.content.service.ContentCounterService;
+import com.example.campung.entity.Content;
+import com.example.campung.global.util.AfterCommitUtil;
+import com.example.campung.global.util.CampusDateUtil;
+import com.example.campung.global.util.GeoDistanceUtil;
+import com.example.campung.main.dto.MapContentSnapshot;
+import com.example.campung.main.dto.MapIndexEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+
+/**
+ * 오늘(캠퍼스 날짜 기준) 콘텐츠의 인메모리 공간 인덱스
+ * 위경도 격자 셀마다 id/위도/경도를 원시 배열로 보관하여 반경 조회를 DB 없이 처리
+ * 05:00 캠퍼스 날짜 변경 시 전체 재구성, 생성/수정/삭제 시 커밋 이후 증분 반영 (geohash 클러스터도 함께 갱신)
+ * 증분 변경은 MapIndexRelay 로 다른 노드에도 전파되어 각 노드가 같은 내용을 보관
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MapContentIndex {
+
+    private static final double CELL_SIZE_DEGREES = 0.002; // 약 220m
+
+    private final ContentRepository contentRepository;
+    private final MapClusterIndex mapClusterIndex;
+    private final MapChangeLog mapChangeLog;
+    private final ContentCounterService contentCounterService;
+    private final MapIndexRelay mapIndexRelay;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, GridCell> cells = new HashMap<>();
+    private final Map<Long, MapContentSnapshot> snapshots = new HashMap<>();
+    private final Map<Long, Long> cellKeyByContentId = new HashMap<>();
+
+    // 인덱스가 담고 있는 캠퍼스 날짜 (null이면 아직 구성 전)
+    private volatile LocalDate campusDate;
+    // 재구성 중 DB 조회 이후 들어온 변경 (재구성 중이 아니면 null)
+    private Queue<Runnable> rebuildJournal;
+
+    /**
+     * 주어진 캠퍼스 날짜의 조회를 인덱스로 처리할 수 있는지 여부
+     */
+    public boolean isServing(LocalDate targetCampusDate) {
+        return targetCampusDate != null && targetCampusDate.equals(campusDate);
+    }
+
+    /**
+     * 현재 캠퍼스 날짜의 콘텐츠로 인덱스를 재구성
+     * DB 조회는 락 밖에서 하므로, 조회 시작 이후 들어온 변경은 기록해 두었다가 교체 직후 새 인덱스에 다시 적용
+     */
+    public synchronized void rebuild() {
+        LocalDate today = CampusDateUtil.getCurrentCampusDate();
+        LocalDateTime startDateTime = CampusDateUtil.getCampusDateStartTime(today);
+        LocalDateTime endDateTime = CampusDateUtil.getCampusDateEndTime(today);
+
+        Queue<Runnable> journal = new ConcurrentLinkedQueue<>();
+        lock.writeLock().lock();
+        try {
+            rebuildJournal = journal;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        List<MapContentSnapshot> contents;
+        try {
+            contents = MapContentSnapshot.fromRows(
+                    contentRepository.findMapRowsByCreatedAtBetween(startDateTime, endDateTime));
+            // DB 컬럼에 아직 반영되지 않은 좋아요/댓글 증감 포함
+            contentCounterService.applyTo(contents);
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                rebuildJournal = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+
+        int replayed;
+        lock.writeLock().lock();
+        try {
+            cells.clear();
+            snapshots.clear();
+            cellKeyByContentId.clear();
+            mapClusterIndex.clear();
+            for (MapContentSnapshot snapshot : contents) {
+                putInternal(snapshot);
+            }
+            campusDate = today;
+            replayed = journal.size();
+            for (Runnable change : journal) {
+                change.run();
+            }
+            rebuildJournal = null;
+            mapChangeLog.reset();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        log.info("지도 콘텐츠 인덱스 재구성 완료 - 캠퍼스 날짜: {}, 콘텐츠 수: {}, 셀 수: {}, 재적용 변경: {}",
+                today, snapshots.size(), cells.size(), replayed);
+    }
+
+    /**
+     * 이 노드와 다른 모든 노드의 인덱스를 재구성 (트랜잭션 안이면 커밋 이후)
+     * 일괄 삭제처럼 증분으로 전파할 수 없는 변경용
+     */
+    public void rebuildOnAllNodes() {
+        AfterCommitUtil.run(() -> {
+            rebuild();
+            mapIndexRelay.publish(MapIndexEvent.rebuild());
+        });
+    }
+
+    /**
+     * 다른 노드에서 전파된 변경 반영 (다시 전파하지 않음)
+     * 생성/수정은 커밋된 DB 값을 다시 읽어 반영하고, 이미 삭제되었으면 제거
+     */
+    public void applyRelayed(MapIndexEvent event) {
+        Long contentId = event.contentId();
+        switch (event.type()) {
+            case SAVED -> {
+                List<MapContentSnapshot> loaded = MapContentSnapshot.fromRows(
+                        contentRepository.findMapRowsByContentIdIn(List.of(contentId)));
+                if (loaded.isEmpty()) {
+                    applyDeleted(contentId);
+                } else {
+                    MapContentSnapshot snapshot = loaded.get(0);
+                    applySaved(contentId, CampusDateUtil.getCampusDate(snapshot.getCreatedAt()), snapshot);
+                }
+            }
+            case DELETED -> applyDeleted(contentId);
+            case LIKE_COUNT -> applyLikeCountChange(contentId, event.count());
+            case COMMENT_COUNT -> applyCommentCountChange(contentId, event.count());
+            case REBUILD -> rebuild();
+            default -> log.warn("처리할 수 없는 지도 인덱스 이벤트: {}", event);
+        }
+    }
+
+    /**
+     * 콘텐츠 생성/수정 반영 (오늘 캠퍼스 날짜의 콘텐츠만 보관)
+     * 트랜잭션 안이면 커밋 이후에 반영하여 롤백된 변경이 인덱스에 남지 않도록 함
+     */
+    public void onContentSaved(Content content) {
+        if (content.getCreatedAt() == null) {
+            return;
+        }
+
+        // 엔티티(지연 로딩 연관 포함)는 트랜잭션 안에서 읽어 둠
+        Long contentId = content.getContentId();
+        LocalDate contentDate = CampusDateUtil.getCampusDate(content.getCreatedAt());
+        MapContentSnapshot snapshot = content.getLatitude() != null && content.getLongitude() != null
+                ? MapContentSnapshot.from(content) : null;
+
+        AfterCommitUtil.run(() -> {
+            applySaved(contentId, contentDate, snapshot);
+            mapIndexRelay.publish(MapIndexEvent.saved(contentId));
+        });
+    }
+
+    private void applySaved(Long contentId, LocalDate contentDate, MapContentSnapshot snapshot) {
+        if (snapshot != null && contentDate.equals(CampusDateUtil.getCurrentCampusDate())) {
+            contentCounterService.applyTo(List.of(snapshot));
+        }
+
+        MapContentSnapshot removed;
+        MapContentSnapshot added;
+        lock.writeLock().lock();
+        try {
+            removed = removeInternal(contentId);
+            added = putIfIndexed(snapshot, contentDate);
+            journal(() -> {
+                removeInternal(contentId);
+                putIfIndexed(snapshot, contentDate);
+            });
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        // 위치가 바뀐 경우 이전 셀을 보던 클라이언트도 변경을 받도록 양쪽 모두 기록
+        recordChange(removed);
+        recordChange(added);
+    }
+
+    /**
+     * 콘텐츠 삭제 반영 (트랜잭션 안이면 커밋 이후)
+     */
+    public void onContentDeleted(Long contentId) {
+        AfterCommitUtil.run(() -> {
+            applyDeleted(contentId);
+            mapIndexRelay.publish(MapIndexEvent.deleted(contentId));
+        });
+    }
+
+    private void applyDeleted(Long contentId) {
+        MapContentSnapshot removed;
+        lock.writeLock().lock();
+        try {
+            removed = removeInternal(contentId);
+            journal(() -> removeInternal(contentId));
+        } finally {
+            lock.writeLock().unlock();
+        }
+        recordChange(removed);
+    }
+
+    /**
+     * HOT 여부 변경 반영 (변경 로그에만 기록, HOT 판정은 ContentHotService 스냅샷 사용)
+     */
+    public void onHotFlagChanged(Long contentId) {
+        recordChange(getSnapshot(contentId));
+    }
+
+    public MapContentSnapshot getSnapshot(Long contentId) {
+        lock.readLock().lock();
+        try {
+            return snapshots.get(contentId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 좋아요 수 변경 반영 (트랜잭션 안이면 커밋 이후)
+     */
+    public void updateLikeCount(Long contentId, int likeCount) {
+        AfterCommitUtil.run(() -> {
+            applyLikeCountChange(contentId, likeCount);
+            mapIndexRelay.publish(MapIndexEvent.likeCount(contentId, likeCount));
+        });
+    }
+
+    /**
+     * 댓글 수 변경 반영 (트랜잭션 안이면 커밋 이후)
+     */
+    public void updateCommentCount(Long contentId, int commentCount) {
+        AfterCommitUtil.run(() -> {
+            applyCommentCountChange(contentId, commentCount);
+            mapIndexRelay.publish(MapIndexEvent.commentCount(contentId, commentCount));
+        });
+    }
+
+    private void applyLikeCountChange(Long contentId, int likeCount) {
+        lock.readLock().lock();
+        try {
+            applyLikeCount(contentId, likeCount);
+            journal(() -> applyLikeCount(contentId, likeCount));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void applyCommentCountChange(Long contentId, int commentCount) {
+        lock.readLock().lock();
+        try {
+            applyCommentCount(contentId, commentCount);
+            journal(() -> applyCommentCount(contentId, commentCount));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void applyLikeCount(Long contentId, int likeCount) {
+        MapContentSnapshot snapshot = snapshots.get(contentId);
+        if (snapshot != null) {
+            snapshot.setLikeCount(likeCount);
+            mapClusterIndex.onLikeCountChanged(snapshot);
+        }
+    }
+
+    private void applyCommentCount(Long contentId, int commentCount) {
+        MapContentSnapshot snapshot = snapshots.get(contentId);
+        if (snapshot != null) {
+            snapshot.setCommentCount(commentCount);
+        }
+    }
+
+    // 재구성 중이면 변경을 기록 (락을 잡은 상태에서 호출)
+    private void journal(Runnable change) {
+        Queue<Runnable> journal = rebuildJournal;
+        if (journal != null) {
+            journal.add(change);
+        }
+    }
+
+    /**
+     * 반경 내 콘텐츠를 최신순으로 조회
+     */
+    public List<MapContentSnapshot> findWithinRadius(double lat, double lng, int radiusInMeters,
+                                                     Predicate<MapContentSnapshot> filter) {
+        double latDelta = GeoDistanceUtil.metersToLatDegrees(radiusInMeters);
+        double lngDelta = GeoDistanceUtil.metersToLngDegrees(radiusInMeters, lat) * 1.01; // 평균 위도 보정 여유
+
+        long minRow = cellIndex(lat - latDelta);
+        long maxRow = cellIndex(lat + latDelta);
+        long minCol = cellIndex(lng - lngDelta);
+        long maxCol = cellIndex(lng + lngDelta);
+
+        List<MapContentSnapshot> result = new ArrayList<>();
+
+        lock.readLock().lock();
+        try {
+            long coveredCells = (maxRow - minRow + 1) * (maxCol - minCol + 1);
+            if (coveredCells > cells.size()) {
+                // 반경이 매우 크면 범위 셀을 순회하는 것보다 존재하는 셀만 보는 편이 빠름
+                for (Map.Entry<Long, GridCell> entry : cells.entrySet()) {
+                    long row = entry.getKey() >> 32;
+                    long col = (int) entry.getKey().longValue();
+                    if (row >= minRow && row <= maxRow && col >= minCol && col <= maxCol) {
+                        collect(entry.getValue(), lat, lng, radiusInMeters, filter, result);
+                    }
+                }
+            } else {
+                for (long row = minRow; row <= maxRow; row++) {
+                    for (long col = minCol; col <= maxCol; col++) {
+                        GridCell cell = cells.get(cellKey(row, col));
+                        if (cell != null) {
+                            collect(cell, lat, lng, radiusInMeters, filter, result);
+                        }
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        result.sort(Comparator.comparing(MapContentSnapshot::getCreatedAt).reversed());
+        return result;
+    }
+
+    /**
+     * 반경 내에서 가까운 순 상위 limit개 조회
+     * 사용자 셀부터 한 겹씩 넓혀 가며 K개 최대 힙을 유지하고,
+     * 다음 겹의 최소 거리가 현재 K번째 거리보다 멀어지면 탐색을 중단
+     */
+    public NearestResult findNearest(double lat, double lng, int radiusInMeters, int limit,
+                                     Predicate<MapContentSnapshot> filter) {
+        double latDelta = GeoDistanceUtil.metersToLatDegrees(radiusInMeters);
+        double lngDelta = GeoDistanceUtil.metersToLngDegrees(radiusInMeters, lat) * 1.01; // 평균 위도 보정 여유
+        long centerRow = cellIndex(lat);
+        long centerCol = cellIndex(lng);
+        long maxRing = Math.max(
+                Math.max(centerRow - cellIndex(lat - latDelta), cellIndex(lat + latDelta) - centerRow),
+                Math.max(centerCol - cellIndex(lng - lngDelta), cellIndex(lng + lngDelta) - centerCol));
+
+        // 거리가 먼 후보가 맨 앞에 오는 최대 힙
+        PriorityQueue<Candidate> heap = new PriorityQueue<>(limit + 1,
+                Comparator.comparingDouble(Candidate::distance).reversed());
+        int matched = 0;
+        boolean stoppedEarly = false;
+
+        lock.readLock().lock();
+        try {
+            for (long ring = 0; ring <= maxRing; ring++) {
+                if (ring > 0) {
+                    double ringMinDistance = ringMinDistanceMeters(lat, lng, centerRow, centerCol, ring);
+                    if (ringMinDistance > radiusInMeters) {
+                        break;
+                    }
+                    if (heap.size() == limit && ringMinDistance > heap.peek().distance()) {
+                        stoppedEarly = true;
+                        break;
+                    }
+                }
+                for (long row = centerRow - ring; row <= centerRow + ring; row++) {
+                    // 겹의 테두리 셀만 방문 (안쪽은 이전 겹에서 처리)
+                    long colStep = (row == centerRow - ring || row == centerRow + ring) ? 1 : Math.max(1, 2 * ring);
+                    for (long col = centerCol - ring; col <= centerCol + ring; col += colStep) {
+                        GridCell cell = cells.get(cellKey(row, col));
+                        if (cell == null) {
+                            continue;
+                        }
+                        for (int i = 0; i < cell.size; i++) {
+                            double distance = GeoDistanceUtil.distanceMeters(lat, lng, cell.lats[i], cell.lngs[i]);
+                            if (distance > radiusInMeters) {
+                                continue;
+                            }
+                            MapContentSnapshot snapshot = snapshots.get(cell.ids[i]);
+                            if (filter != null && !filter.test(snapshot)) {
+                                continue;
+                            }
+                            matched++;
+                            if (heap.size() < limit) {
+                                heap.add(new Candidate(snapshot, distance));
+                            } else if (distance < heap.peek().distance()) {
+                                heap.poll();
+                                heap.add(new Candidate(snapshot, distance));
+                            }
+                        }
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<MapContentSnapshot> nearest = new ArrayList<>(heap.size());
+        heap.stream()
+                .sorted(Comparator.comparingDouble(Candidate::distance))
+                .forEach(candidate -> nearest.add(candidate.snapshot()));
+        // 중단한 경우 바깥 겹에 반경 내 콘텐츠가 더 있을 수 있음
+        return new NearestResult(nearest, matched > limit || stoppedEarly);
+    }
+
+    /**
+     * ring번째 겹의 셀이 가질 수 있는 최소 거리 = 사용자로부터 안쪽 (2*ring-1)^2 블록 경계까지의 거리
+     */
+    private static double ringMinDistanceMeters(double lat, double lng, long centerRow, long centerCol, long ring) {
+        double innerMinLat = (centerRow - ring + 1) * CELL_SIZE_DEGREES;
+        double innerMaxLat = (centerRow + ring) * CELL_SIZE_DEGREES;
+        double innerMinLng = (centerCol - ring + 1) * CELL_SIZE_DEGREES;
+        double innerMaxLng = (centerCol + ring) * CELL_SIZE_DEGREES;
+
+        double latGap = Math.min(lat - innerMinLat, innerMaxLat - lat);
+        double lngGap = Math.min(lng - innerMinLng, innerMaxLng - lng);
+        return Math.min(
+                GeoDistanceUtil.distanceMeters(lat, lng, lat + latGap, lng),
+                GeoDistanceUtil.distanceMeters(lat, lng, lat, lng + lngGap));
+    }
+
+    private void collect(GridCell cell, double lat, double lng, int radiusInMeters,
+                         Predicate<MapContentSnapshot> filter, List<MapContentSnapshot> result) {
+        for (int i = 0; i < cell.size; i++) {
+            if (GeoDistanceUtil.distanceMeters(lat, lng, cell.lats[i], cell.lngs[i]) <= radiusInMeters) {
+                MapContentSnapshot snapshot = snapshots.get(cell.ids[i]);
+                if (filter == null || filter.test(snapshot)) {
+                    result.add(snapshot);
+                }
+            }
+        }
+    }
+
+    private MapContentSnapshot putIfIndexed(MapContentSnapshot snapshot, LocalDate contentDate) {
+        if (snapshot == null || !contentDate.equals(campusDate)) {
+            return null;
+        }
+        putInternal(snapshot);
+        return snapshot;
+    }
+
+    private void putInternal(MapContentSnapshot snapshot) {
+        long key = cellKey(cellIndex(snapshot.getLatitude()), cellIndex(snapshot.getLongitude()));
+        cells.computeIfAbsent(key, k -> new GridCell())
+                .add(snapshot.getContentId(), snapshot.getLatitude(), snapshot.getLongitude());
+        snapshots.put(snapshot.getContentId(), snapshot);
+        cellKeyByContentId.put(snapshot.getContentId(), key);
+        mapClusterIndex.add(snapshot);
+    }
+
+    private void recordChange(MapContentSnapshot snapshot) {
+        if (snapshot != null) {
+            mapChangeLog.record(MapChangeLog.Target.CONTENT, snapshot.getContentId(),
+                    snapshot.getLatitude(), snapshot.getLongitude());
+        }
+    }
+
+    private MapContentSnapshot removeInternal(Long contentId) {
+        Long key = cellKeyByContentId.remove(contentId);
+        if (key == null) {
+            return null;
+        }
+        MapContentSnapshot removed = snapshots.remove(contentId);
+        if (removed != null) {
+            mapClusterIndex.remove(removed);
+        }
+        GridCell cell = cells.get(key);
+        if (cell != null && cell.remove(contentId) && cell.size == 0) {
+            cells.remove(key);
+        }
+        return removed;
+    }
+
+    private static long cellIndex(double degrees) {
+        return (long) Math.floor(degrees / CELL_SIZE_DEGREES);
+    }
+
+    private static long cellKey(long row, long col) {
+        return (row << 32) | (col & 0xffffffffL);
+    }
+
+    /**
+     * 격자 셀 하나에 속한 콘텐츠 좌표 (원시 배열, 삭제 시 마지막 원소와 교체)
+     */
+    private static final class GridCell {
+        private long[] ids = new long[4];
+        private double[] lats = new double[4];
+        private double[] lngs = new double[4];
+        private int size;
+
+        void add(long id, double lat, double lng) {
+            if (size == ids.length) {
+                int capacity = size * 2;
+                ids = Arrays.copyOf(ids, capacity);
+                lats = Arrays.copyOf(lats, capacity);
+                lngs = Arrays.copyOf(lngs, capacity);
+            }
+            ids[size] = id;
+            lats[size] = lat;
+            lngs[size] = lng;
+            size++;
+        }
+
+        boolean remove(long id) {
+            for (int i = 0; i < size; i++) {
+                if (ids[i] == id) {
+                    size--;
+                    ids[i] = ids[size];
+                    lats[i] = lats[size];
+                    lngs[i] = lngs[size];
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    private record Candidate(MapContentSnapshot snapshot, double distance) {
+    }
+
+    /**
+     * 가까운 순 조회 결과 (hasMore: 반경 내에 반환하지 않은 콘텐츠가 더 있을 수 있음)
+     */
+    public record NearestResult(List<MapContentSnapshot> contents, boolean hasMore) {
+    }
+}
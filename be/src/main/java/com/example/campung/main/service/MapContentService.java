@@ -1,16 +1,23 @@
 package com.example.campung.main.service;
 
 import com.example.campung.content.repository.ContentRepository;
+import com.example.campung.content.service.ContentCounterService;
+import com.example.campung.emotion.dto.CampusClimateSnapshot;
+import com.example.campung.emotion.service.CampusClimateHolder;
 import com.example.campung.emotion.service.CampusEmotionService;
 import com.example.campung.emotion.service.CampusTemperatureManager;
 import com.example.campung.entity.Content;
 import com.example.campung.entity.DailyCampus;
 import com.example.campung.entity.Record;
+import com.example.campung.geo.service.GeohashService;
 import com.example.campung.global.enums.PostType;
 import com.example.campung.global.enums.MarkerType;
+import com.example.campung.main.dto.MapContentChangesResponse;
+import com.example.campung.main.dto.MapContentChangesResponse.MapContentChangesData;
 import com.example.campung.main.dto.MapContentRequest;
 import com.example.campung.record.repository.RecordRepository;
 import com.example.campung.main.dto.MapContentResponse;
+import com.example.campung.main.dto.MapContentSnapshot;
 import com.example.campung.main.dto.MapContentResponse.MapContentData;
 import com.example.campung.main.dto.MapContentResponse.MapContentItem;
 import com.example.campung.main.dto.MapContentResponse.AuthorInfo;
@@ -19,20 +26,41 @@ import com.example.campung.main.dto.MapContentResponse.MediaFileInfo;
 import com.example.campung.main.dto.MapContentResponse.ReactionInfo;
 import com.example.campung.main.dto.MapContentResponse.RecordItem;
 import com.example.campung.global.util.CampusDateUtil;
+import com.example.campung.global.util.GeoDistanceUtil;
+import com.example.campung.global.util.PackedGeohashUtil;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
+@Slf4j
 @Service
 public class MapContentService {
 
+    private static final int COALESCE_CELL_PRECISION = 7; // 약 150m x 150m
+    private static final int RADIUS_BUCKET_METERS = 100;
+
     @Autowired
     private ContentRepository contentRepository;
     
@@ -45,8 +73,42 @@ public class MapContentService {
     @Autowired
     private CampusTemperatureManager temperatureManager;
     
+    @Autowired
+    private CampusClimateHolder campusClimateHolder;
+    
     @Autowired
     private com.example.campung.content.service.ContentHotService contentHotService;
+    
+    @Autowired
+    private ContentCounterService contentCounterService;
+    
+    @Autowired
+    private MapContentIndex mapContentIndex;
+    
+    @Autowired
+    private MapChangeLog mapChangeLog;
+    
+    @Autowired
+    @Qualifier("mapQueryExecutor")
+    private Executor mapQueryExecutor;
+    
+    @Autowired
+    private MeterRegistry meterRegistry;
+    
+    @Autowired
+    private MapQueryCoalescer mapQueryCoalescer;
+    
+    @Autowired
+    private GeohashService geohashService;
+    
+    @Value("${app.map.query.contents-timeout-ms:3000}")
+    private long contentsTimeoutMs;
+    
+    @Value("${app.map.query.records-timeout-ms:3000}")
+    private long recordsTimeoutMs;
+    
+    @Value("${app.map.query.climate-timeout-ms:1000}")
+    private long climateTimeoutMs;
 
     public MapContentResponse getMapContents(MapContentRequest request) {
         System.out.println("=== 지도 콘텐츠 조회 시작 ===");
@@ -59,12 +121,41 @@ public class MapContentService {
         System.out.println("조회 대상 캠퍼스 날짜: " + targetCampusDate);
         System.out.println("캠퍼스 날짜 디버그: " + CampusDateUtil.debugCampusDate(LocalDateTime.now()));
 
-        // 위치 기반 콘텐츠 조회 (위치와 캠퍼스 날짜 조건 적용)
-        List<Content> contents = findContentsByLocationAndDate(request, targetCampusDate);
+        // 같은 강의실 등에서 동시에 들어오는 거의 같은 요청은 정규화된 키로 병합
+        MapQueryArea area = normalizeArea(request);
+
+        // 콘텐츠 / 녹음파일 / 온도·날씨 조회는 서로 독립적이므로 동시에 실행
+        // 각 분기는 제한 시간을 넘기거나 실패하면 기본값(커서 없음)으로 응답
+        CompletableFuture<CursorResult<ContentLookup>> contentsFuture = runBranch("contents", contentsTimeoutMs,
+                () -> findContentsCoalesced(request, area, targetCampusDate),
+                new CursorResult<>(new ContentLookup(List.of(), false), null));
+        CompletableFuture<CursorResult<List<Record>>> recordsFuture = runBranch("records", recordsTimeoutMs,
+                () -> findRecordsCoalesced(request, area, targetCampusDate),
+                new CursorResult<>(List.of(), null));
+        CompletableFuture<CampusClimate> climateFuture = runBranch("climate", climateTimeoutMs,
+                () -> mapQueryCoalescer.execute("climate:" + targetCampusDate,
+                        () -> loadCampusClimate(targetCampusDate)),
+                CampusClimate.DEFAULT);
+
+        CursorResult<ContentLookup> contentsResult = contentsFuture.join();
+        ContentLookup contentLookup = contentsResult.value();
+        List<MapContentSnapshot> contents = contentLookup.contents();
         System.out.println("조회된 콘텐츠 수: " + contents.size());
 
-        // 위치 기반 녹음파일 조회
-        List<Record> records = findRecordsByLocationAndDate(request, targetCampusDate);
+        CursorResult<List<Record>> recordsResult = recordsFuture.join();
+        List<Record> records = recordsResult.value();
+        Long cursor = olderCursor(contentsResult.cursor(), recordsResult.cursor());
+        boolean recordsHasMore = false;
+        if (isDistanceSort(request)) {
+            records = new ArrayList<>(records);
+            records.sort(Comparator.comparingDouble(record -> GeoDistanceUtil.distanceMeters(
+                    request.getLat(), request.getLng(),
+                    record.getLatitude().doubleValue(), record.getLongitude().doubleValue())));
+        }
+        if (request.getLimit() != null && records.size() > request.getLimit()) {
+            records = records.subList(0, request.getLimit());
+            recordsHasMore = true;
+        }
         System.out.println("조회된 녹음파일 수: " + records.size());
 
         // DTO 변환
@@ -76,12 +167,166 @@ public class MapContentService {
                 .map(this::convertToRecordItem)
                 .collect(Collectors.toList());
 
-        MapContentData data = new MapContentData(contentItems, recordItems);
+        MapContentData data = new MapContentData(contentItems, recordItems,
+                contentItems.size() + recordItems.size(), contentLookup.hasMore() || recordsHasMore);
         
         // 날짜별 온도/날씨 데이터 설정
+        CampusClimate climate = climateFuture.join();
+        data.setEmotionWeather(climate.emotionWeather());
+        data.setEmotionTemperature(climate.temperature());
+        data.setMaxTemperature(climate.maxTemperature());
+        data.setMinTemperature(climate.minTemperature());
+        data.setCursor(cursor);
+        
+        return new MapContentResponse(true, "지도 콘텐츠 조회 성공", data);
+    }
+
+    /**
+     * 요청 위치를 geohash 7자리 셀 중심으로, 반경을 100m 단위로 올림하여 정규화
+     * 셀 안 어느 지점의 요청이든 포함하도록 셀 중심~모서리 거리만큼 반경을 넓혀 조회하고,
+     * 각 요청의 실제 위치/반경으로 다시 거름
+     */
+    private MapQueryArea normalizeArea(MapContentRequest request) {
+        long packedCell = geohashService.packedGeohash(request.getLat(), request.getLng(), COALESCE_CELL_PRECISION);
+        String cell = PackedGeohashUtil.toString(packedCell);
+        double centerLat = PackedGeohashUtil.centerLatitude(packedCell);
+        double centerLng = PackedGeohashUtil.centerLongitude(packedCell);
+        double halfDiagonal = GeoDistanceUtil.distanceMeters(centerLat, centerLng,
+                centerLat + PackedGeohashUtil.heightDegrees(COALESCE_CELL_PRECISION) / 2,
+                centerLng + PackedGeohashUtil.widthDegrees(COALESCE_CELL_PRECISION) / 2);
+
+        int radiusBucket = (int) Math.ceil(request.getRadius() / (double) RADIUS_BUCKET_METERS) * RADIUS_BUCKET_METERS;
+        return new MapQueryArea(cell, centerLat, centerLng, radiusBucket, radiusBucket + (int) Math.ceil(halfDiagonal));
+    }
+
+    /**
+     * 병합된 결과는 최대 coalesce-ttl-ms 전에 계산된 것일 수 있으므로
+     * 커서도 계산하는 쪽(loader)에서 조회 직전에 잡아 결과와 함께 보관
+     */
+    private CursorResult<ContentLookup> findContentsCoalesced(MapContentRequest request, MapQueryArea area,
+                                                              LocalDate targetCampusDate) {
+        // 오늘 날짜의 가까운 순 상위 K개는 인메모리 인덱스에서 바로 계산 (DB 왕복 없음)
+        if (request.getLimit() != null && isDistanceSort(request) && mapContentIndex.isServing(targetCampusDate)) {
+            Long cursor = captureCursor(targetCampusDate);
+            return new CursorResult<>(findContentsByLocationAndDate(request, targetCampusDate), cursor);
+        }
+
+        String key = "contents:" + area.key() + ":" + request.getPostType() + ":" + targetCampusDate;
+        CursorResult<List<MapContentSnapshot>> covering = mapQueryCoalescer.execute(key, () -> {
+            Long cursor = captureCursor(targetCampusDate);
+            return new CursorResult<>(
+                    findContentsByLocationAndDate(area.toRequest(request.getPostType()), targetCampusDate).contents(),
+                    cursor);
+        });
+
+        List<MapContentSnapshot> contents = covering.value().stream()
+                .filter(content -> GeoDistanceUtil.distanceMeters(request.getLat(), request.getLng(),
+                        content.getLatitude(), content.getLongitude()) <= request.getRadius())
+                .collect(Collectors.toList());
+        return new CursorResult<>(sortAndLimit(contents, request), covering.cursor());
+    }
+
+    private CursorResult<List<Record>> findRecordsCoalesced(MapContentRequest request, MapQueryArea area,
+                                                            LocalDate targetCampusDate) {
+        String key = "records:" + area.key() + ":" + targetCampusDate;
+        CursorResult<List<Record>> covering = mapQueryCoalescer.execute(key, () -> {
+            Long cursor = captureCursor(targetCampusDate);
+            return new CursorResult<>(findRecordsByLocationAndDate(area.toRequest(null), targetCampusDate), cursor);
+        });
+
+        List<Record> records = covering.value().stream()
+                .filter(record -> GeoDistanceUtil.distanceMeters(request.getLat(), request.getLng(),
+                        record.getLatitude().doubleValue(), record.getLongitude().doubleValue()) <= request.getRadius())
+                .collect(Collectors.toList());
+        return new CursorResult<>(records, covering.cursor());
+    }
+
+    /**
+     * 조회 전에 변경 로그 커서를 잡아 둠 (조회 중 생긴 변경은 이 커서 이후 증분 조회에 포함되어 누락 없음)
+     * 오늘이 아닌 날짜는 증분 조회 대상이 아니므로 null
+     */
+    private Long captureCursor(LocalDate targetCampusDate) {
+        return targetCampusDate.equals(CampusDateUtil.getCurrentCampusDate())
+                ? mapChangeLog.currentCursor() : null;
+    }
+
+    /**
+     * 두 분기 중 더 오래된 커서 (이후 변경을 다시 받는 것은 무해하지만 건너뛰면 누락)
+     * 어느 한 분기라도 커서가 없으면(기본값 대체 등) 클라이언트가 전체 재조회하도록 null
+     */
+    private static Long olderCursor(Long contentsCursor, Long recordsCursor) {
+        return contentsCursor != null && recordsCursor != null ? Math.min(contentsCursor, recordsCursor) : null;
+    }
+
+    /**
+     * 조회 결과와 조회 직전의 변경 로그 커서
+     */
+    private record CursorResult<T>(T value, Long cursor) {
+    }
+
+    /**
+     * 병합 단위 영역 (셀 중심 + 셀 전체를 덮는 반경)
+     */
+    private record MapQueryArea(String cell, double centerLat, double centerLng, int radiusBucket, int coveringRadius) {
+        String key() {
+            return cell + ":" + radiusBucket;
+        }
+
+        MapContentRequest toRequest(PostType postType) {
+            MapContentRequest covering = new MapContentRequest();
+            covering.setLat(centerLat);
+            covering.setLng(centerLng);
+            covering.setRadius(coveringRadius);
+            covering.setPostType(postType);
+            return covering;
+        }
+    }
+
+    /**
+     * 조회 분기를 지도 조회 전용 스레드 풀에서 실행
+     * 분기별 소요 시간은 map.contents.branch 타이머(branch, outcome 태그)로 기록
+     * 풀이 포화되어 거절되면 기본값으로 대체 (outcome=rejected)
+     */
+    private <T> CompletableFuture<T> runBranch(String branch, long timeoutMs, Supplier<T> supplier, T fallback) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        CompletableFuture<T> future;
+        try {
+            future = CompletableFuture.supplyAsync(supplier, mapQueryExecutor);
+        } catch (RejectedExecutionException e) {
+            // 풀 포화: 요청 스레드에서 실행하지 않고 기본값으로 응답
+            sample.stop(meterRegistry.timer("map.contents.branch", "branch", branch, "outcome", "rejected"));
+            log.warn("지도 조회 분기 거절 - branch: {}, 기본값 사용", branch);
+            return CompletableFuture.completedFuture(fallback);
+        }
+        return future
+                .orTimeout(timeoutMs, TimeUnit.MILLISECONDS)
+                .handle((result, ex) -> {
+                    String outcome = ex == null ? "success"
+                            : ex instanceof TimeoutException || ex.getCause() instanceof TimeoutException ? "timeout"
+                            : "error";
+                    sample.stop(meterRegistry.timer("map.contents.branch", "branch", branch, "outcome", outcome));
+                    if (ex != null) {
+                        log.warn("지도 조회 분기 실패 - branch: {}, outcome: {}, 기본값 사용: {}", branch, outcome, ex.toString());
+                        return fallback;
+                    }
+                    return result;
+                });
+    }
+
+    /**
+     * 날짜별 온도/날씨 데이터 조회
+     */
+    private CampusClimate loadCampusClimate(LocalDate targetCampusDate) {
         LocalDate todayCampusDate = CampusDateUtil.getCurrentCampusDate();
         if (targetCampusDate.equals(todayCampusDate)) {
-            // 오늘 데이터: 현재 실시간 온도 및 감정 분석 결과 사용
+            // 오늘 데이터: 메모리 스냅샷 우선 (Redis 왕복 없음)
+            CampusClimateSnapshot snapshot = campusClimateHolder.current();
+            if (snapshot != null) {
+                return new CampusClimate(snapshot.emotionWeather(), snapshot.temperature(),
+                        snapshot.maxTemperature(), snapshot.minTemperature());
+            }
+            
+            // 스냅샷 적재 전: 현재 실시간 온도 및 감정 분석 결과 사용
             String emotionWeather = campusEmotionService.getCurrentEmotionWeather();
             Double currentTemperature = temperatureManager.getCurrentCampusTemperature();
             
@@ -90,49 +335,101 @@ public class MapContentService {
             double todayMaxTemp = minMaxTemp[0];
             double todayMinTemp = minMaxTemp[1];
             
-            data.setEmotionWeather(emotionWeather);
-            data.setEmotionTemperature(currentTemperature);
-            data.setMaxTemperature(todayMaxTemp);
-            data.setMinTemperature(todayMinTemp);
-            
             System.out.println("오늘 데이터 - 날씨: " + emotionWeather + 
                              ", 현재온도: " + currentTemperature +
                              ", 최고온도: " + todayMaxTemp +
                              ", 최저온도: " + todayMinTemp);
-        } else {
-            // 과거 데이터: DailyCampus 테이블에서 조회
-            DailyCampus dailyData = temperatureManager.getDailyCampusData(targetCampusDate);
-            
-            if (dailyData != null) {
-                // DailyCampus 데이터가 있는 경우: 최저, 최고, 평균온도, 마지막 날씨 반환
-                data.setEmotionWeather(dailyData.getWeatherType().name().toLowerCase());
-                data.setEmotionTemperature(dailyData.getFinalTemperature()); // 평균온도
-                data.setMaxTemperature(dailyData.getMaxTemperature());
-                data.setMinTemperature(dailyData.getMinTemperature());
-                
-                System.out.println("과거 데이터 (" + targetCampusDate + ") - 날씨: " + dailyData.getWeatherType().name().toLowerCase() + 
-                                 ", 평균온도: " + dailyData.getFinalTemperature() +
-                                 ", 최고온도: " + dailyData.getMaxTemperature() +
-                                 ", 최저온도: " + dailyData.getMinTemperature());
+            return new CampusClimate(emotionWeather, currentTemperature, todayMaxTemp, todayMinTemp);
+        }
+        
+        // 과거 데이터: DailyCampus 테이블에서 조회
+        DailyCampus dailyData = temperatureManager.getDailyCampusData(targetCampusDate);
+        
+        if (dailyData != null) {
+            // DailyCampus 데이터가 있는 경우: 최저, 최고, 평균온도, 마지막 날씨 반환
+            System.out.println("과거 데이터 (" + targetCampusDate + ") - 날씨: " + dailyData.getWeatherType().name().toLowerCase() + 
+                             ", 평균온도: " + dailyData.getFinalTemperature() +
+                             ", 최고온도: " + dailyData.getMaxTemperature() +
+                             ", 최저온도: " + dailyData.getMinTemperature());
+            return new CampusClimate(dailyData.getWeatherType().name().toLowerCase(),
+                    dailyData.getFinalTemperature(), // 평균온도
+                    dailyData.getMaxTemperature(),
+                    dailyData.getMinTemperature());
+        }
+        
+        // 데이터가 없는 경우 기본값
+        System.out.println("과거 데이터 없음 (" + targetCampusDate + ") - 기본값 사용");
+        return CampusClimate.DEFAULT;
+    }
+    
+    private record CampusClimate(String emotionWeather, Double temperature, Double maxTemperature, Double minTemperature) {
+        static final CampusClimate DEFAULT = new CampusClimate("cloudy", 20.0, 25.0, 15.0);
+    }
+
+    /**
+     * 커서 이후 변경된 오늘 콘텐츠/녹음파일 조회
+     * 변경 로그에는 id만 있으므로 현재 상태를 다시 읽어 존재하면 갱신, 없으면 삭제로 응답
+     */
+    public MapContentChangesResponse getMapContentChanges(long since, Set<String> cellPrefixes) {
+        LocalDate todayCampusDate = CampusDateUtil.getCurrentCampusDate();
+        MapChangeLog.ChangeSet changes = mapChangeLog.changesSince(since, cellPrefixes);
+
+        if (changes.resyncRequired() || !mapContentIndex.isServing(todayCampusDate)) {
+            return MapContentChangesResponse.builder()
+                    .success(true)
+                    .message("전체 재조회가 필요합니다")
+                    .data(MapContentChangesData.builder()
+                            .cursor(changes.cursor())
+                            .resyncRequired(true)
+                            .contents(List.of())
+                            .records(List.of())
+                            .deletedContentIds(List.of())
+                            .deletedRecordIds(List.of())
+                            .build())
+                    .build();
+        }
+
+        List<MapContentItem> contentItems = new ArrayList<>();
+        List<Long> deletedContentIds = new ArrayList<>();
+        for (Long contentId : changes.contentIds()) {
+            MapContentSnapshot snapshot = mapContentIndex.getSnapshot(contentId);
+            if (snapshot != null) {
+                contentItems.add(convertToMapContentItem(snapshot));
             } else {
-                // 데이터가 없는 경우 기본값
-                data.setEmotionWeather("cloudy");
-                data.setEmotionTemperature(20.0);
-                data.setMaxTemperature(25.0);
-                data.setMinTemperature(15.0);
-                
-                System.out.println("과거 데이터 없음 (" + targetCampusDate + ") - 기본값 사용");
+                deletedContentIds.add(contentId);
             }
         }
-        
-        return new MapContentResponse(true, "지도 콘텐츠 조회 성공", data);
+
+        List<RecordItem> recordItems = new ArrayList<>();
+        List<Long> deletedRecordIds = new ArrayList<>(changes.recordIds());
+        if (!changes.recordIds().isEmpty()) {
+            for (Record record : recordRepository.findWithUserByRecordIdIn(changes.recordIds())) {
+                if (todayCampusDate.equals(CampusDateUtil.getCampusDate(record.getCreatedAt()))) {
+                    recordItems.add(convertToRecordItem(record));
+                    deletedRecordIds.remove(record.getRecordId());
+                }
+            }
+        }
+
+        return MapContentChangesResponse.builder()
+                .success(true)
+                .message("지도 콘텐츠 변경분 조회 성공")
+                .data(MapContentChangesData.builder()
+                        .cursor(changes.cursor())
+                        .resyncRequired(false)
+                        .contents(contentItems)
+                        .records(recordItems)
+                        .deletedContentIds(deletedContentIds)
+                        .deletedRecordIds(deletedRecordIds)
+                        .build())
+                .build();
     }
 
     private LocalDate parseDate(String dateStr) {
         return CampusDateUtil.parseCampusDate(dateStr);
     }
 
-    private List<Content> findContentsByLocationAndDate(MapContentRequest request, LocalDate targetCampusDate) {
+    private ContentLookup findContentsByLocationAndDate(MapContentRequest request, LocalDate targetCampusDate) {
         double userLat = request.getLat();
         double userLng = request.getLng();
         int radiusInMeters = request.getRadius();
@@ -140,16 +437,25 @@ public class MapContentService {
 
         System.out.println("위치 기반 검색: lat=" + userLat + ", lng=" + userLng + ", radius=" + radiusInMeters + "m");
 
-        // 넓은 범위로 DB에서 조회 (반경의 2배 정도)
-        double radiusInKm = radiusInMeters / 1000.0;
-        double searchRadiusInDegrees = (radiusInKm * 2) / 111.32; // 2배 넓게 검색
-
-        double minLat = userLat - searchRadiusInDegrees;
-        double maxLat = userLat + searchRadiusInDegrees;
-        double minLng = userLng - searchRadiusInDegrees / Math.cos(Math.toRadians(userLat));
-        double maxLng = userLng + searchRadiusInDegrees / Math.cos(Math.toRadians(userLat));
-
-        System.out.println("DB 검색 범위 - lat: " + minLat + "~" + maxLat + ", lng: " + minLng + "~" + maxLng);
+        // 오늘 캠퍼스 날짜는 인메모리 인덱스로 처리
+        if (mapContentIndex.isServing(targetCampusDate)) {
+            Predicate<MapContentSnapshot> filter = null;
+            if (postType == PostType.HOT) {
+                filter = snapshot -> contentHotService.isHotContent(snapshot.getContentId());
+            } else if (postType != null) {
+                filter = snapshot -> snapshot.getPostType() == postType;
+            }
+            if (request.getLimit() != null && isDistanceSort(request)) {
+                // 가까운 순 상위 K개는 사용자 셀부터 넓혀 가며 탐색 (반경 전체를 보지 않음)
+                MapContentIndex.NearestResult nearest = mapContentIndex.findNearest(
+                        userLat, userLng, radiusInMeters, request.getLimit(), filter);
+                System.out.println("인덱스에서 조회된 가까운 콘텐츠 수: " + nearest.contents().size());
+                return new ContentLookup(nearest.contents(), nearest.hasMore());
+            }
+            List<MapContentSnapshot> indexed = mapContentIndex.findWithinRadius(userLat, userLng, radiusInMeters, filter);
+            System.out.println("인덱스에서 조회된 콘텐츠 수: " + indexed.size());
+            return sortAndLimit(indexed, request);
+        }
 
         // 캠퍼스 날짜 범위 설정 (05:00 ~ 다음날 04:59:59)
         LocalDateTime startDateTime = CampusDateUtil.getCampusDateStartTime(targetCampusDate);
@@ -157,56 +463,37 @@ public class MapContentService {
         
         System.out.println("캠퍼스 날짜 범위: " + startDateTime + " ~ " + endDateTime);
 
-        List<Content> contents;
-        if (postType != null && postType == PostType.HOT) {
-            // HOT postType 요청 시 isHot = true인 게시글 조회
-            contents = contentRepository.findByLocationAndDateAndIsHot(
-                    minLat, maxLat, minLng, maxLng, startDateTime, endDateTime
-            );
-        } else if (postType != null) {
-            contents = contentRepository.findByLocationAndDateAndPostType(
-                    minLat, maxLat, minLng, maxLng, startDateTime, endDateTime, postType
-            );
-        } else {
-            contents = contentRepository.findByLocationAndDate(
-                    minLat, maxLat, minLng, maxLng, startDateTime, endDateTime
-            );
-        }
-
-        System.out.println("DB에서 조회된 콘텐츠 수: " + contents.size());
-
-        // Java에서 정확한 거리 계산으로 필터링
-        List<Content> filteredContents = contents.stream()
-                .filter(content -> {
-                    if (content.getLatitude() == null || content.getLongitude() == null) {
-                        return false;
-                    }
-
-                    double contentLat = content.getLatitude().doubleValue();
-                    double contentLng = content.getLongitude().doubleValue();
-
-                    // Haversine 공식 기반 거리 계산
-                    double latDiff = contentLat - userLat;
-                    double lngDiff = contentLng - userLng;
-
-                    double avgLat = Math.toRadians((contentLat + userLat) / 2);
-                    double latDistance = latDiff * 111.32; // km
-                    double lngDistance = lngDiff * 111.32 * Math.cos(avgLat); // km
-
-                    double distanceInKm = Math.sqrt(latDistance * latDistance + lngDistance * lngDistance);
-                    double distanceInMeters = distanceInKm * 1000;
-
-                    System.out.println("거리 계산: " + contentLat + "," + contentLng + 
-                                     " → " + userLat + "," + userLng + 
-                                     " = " + String.format("%.0f", distanceInMeters) + "m (반경: " + radiusInMeters + "m)");
+        // 날짜 복합 인덱스(하루 범위 + 사각 영역) + 구면 거리로 반경 내 id를 거른 뒤,
+        // 작성자/첨부파일을 평탄화한 프로젝션으로 한 번에 조회 (지연 로딩 N+1 방지)
+        List<MapContentSnapshot> filteredContents = MapContentSnapshot.fromRows(contentRepository.findMapRowsNearby(
+                userLat, userLng, radiusInMeters, startDateTime, endDateTime, postType));
+        contentCounterService.applyTo(filteredContents);
 
-                    return distanceInMeters <= radiusInMeters;
-                })
-                .collect(Collectors.toList());
-
-        System.out.println("반경 내 필터링된 콘텐츠 수: " + filteredContents.size());
+        System.out.println("반경 내 조회된 콘텐츠 수: " + filteredContents.size());
         
-        return filteredContents;
+        return sortAndLimit(filteredContents, request);
+    }
+    
+    /**
+     * 최신순 목록에 정렬 방식과 개수 제한 적용
+     */
+    private ContentLookup sortAndLimit(List<MapContentSnapshot> contents, MapContentRequest request) {
+        if (isDistanceSort(request)) {
+            contents = new ArrayList<>(contents);
+            contents.sort(Comparator.comparingDouble(content -> GeoDistanceUtil.distanceMeters(
+                    request.getLat(), request.getLng(), content.getLatitude(), content.getLongitude())));
+        }
+        if (request.getLimit() != null && contents.size() > request.getLimit()) {
+            return new ContentLookup(contents.subList(0, request.getLimit()), true);
+        }
+        return new ContentLookup(contents, false);
+    }
+    
+    private boolean isDistanceSort(MapContentRequest request) {
+        return "distance".equalsIgnoreCase(request.getSort());
+    }
+    
+    private record ContentLookup(List<MapContentSnapshot> contents, boolean hasMore) {
     }
     
     private List<Record> findRecordsByLocationAndDate(MapContentRequest request, LocalDate targetCampusDate) {
@@ -216,96 +503,54 @@ public class MapContentService {
 
         System.out.println("녹음파일 위치 기반 검색: lat=" + userLat + ", lng=" + userLng + ", radius=" + radiusInMeters + "m");
 
-        // 넓은 범위로 DB에서 조회 (반경의 2배 정도)
-        double radiusInKm = radiusInMeters / 1000.0;
-        double searchRadiusInDegrees = (radiusInKm * 2) / 111.32; // 2배 넓게 검색
-
-        double minLat = userLat - searchRadiusInDegrees;
-        double maxLat = userLat + searchRadiusInDegrees;
-        double minLng = userLng - searchRadiusInDegrees / Math.cos(Math.toRadians(userLat));
-        double maxLng = userLng + searchRadiusInDegrees / Math.cos(Math.toRadians(userLat));
-
         // 캠퍼스 날짜 범위 설정 (05:00 ~ 다음날 04:59:59)
         LocalDateTime startDateTime = CampusDateUtil.getCampusDateStartTime(targetCampusDate);
         LocalDateTime endDateTime = CampusDateUtil.getCampusDateEndTime(targetCampusDate);
 
-        // 모든 녹음파일 조회 후 Java에서 필터링
-        List<Record> allRecords = recordRepository.findAll();
-        
-        List<Record> filteredRecords = allRecords.stream()
-                .filter(record -> {
-                    // 날짜 필터링
-                    if (record.getCreatedAt().isBefore(startDateTime) || 
-                        record.getCreatedAt().isAfter(endDateTime)) {
-                        return false;
-                    }
-
-                    // 위치 필터링
-                    if (record.getLatitude() == null || record.getLongitude() == null) {
-                        return false;
-                    }
-
-                    double recordLat = record.getLatitude().doubleValue();
-                    double recordLng = record.getLongitude().doubleValue();
-
-                    // Haversine 공식 기반 거리 계산
-                    double latDiff = recordLat - userLat;
-                    double lngDiff = recordLng - userLng;
-
-                    double avgLat = Math.toRadians((recordLat + userLat) / 2);
-                    double latDistance = latDiff * 111.32; // km
-                    double lngDistance = lngDiff * 111.32 * Math.cos(avgLat); // km
-
-                    double distanceInKm = Math.sqrt(latDistance * latDistance + lngDistance * lngDistance);
-                    double distanceInMeters = distanceInKm * 1000;
-
-                    System.out.println("녹음파일 거리 계산: " + recordLat + "," + recordLng + 
-                                     " → " + userLat + "," + userLng + 
-                                     " = " + String.format("%.0f", distanceInMeters) + "m (반경: " + radiusInMeters + "m)");
-
-                    return distanceInMeters <= radiusInMeters;
-                })
-                .collect(Collectors.toList());
+        // 날짜 복합 인덱스(하루 범위 + 사각 영역) + 구면 거리로 반경 내 id를 거른 뒤 작성자와 함께 조회
+        GeoDistanceUtil.BoundingBox box = GeoDistanceUtil.boundingBox(userLat, userLng, radiusInMeters);
+        List<Long> recordIds = recordRepository.findRecordIdsNearby(
+                box.minLat(), box.maxLat(), box.minLng(), box.maxLng(),
+                GeoDistanceUtil.pointWkt(userLat, userLng), radiusInMeters, startDateTime, endDateTime
+        );
+        List<Record> filteredRecords = recordIds.isEmpty()
+                ? List.of()
+                : recordRepository.findWithUserByRecordIdIn(recordIds);
 
         System.out.println("반경 내 필터링된 녹음파일 수: " + filteredRecords.size());
         
         return filteredRecords;
     }
 
-    private MapContentItem convertToMapContentItem(Content content) {
+    private MapContentItem convertToMapContentItem(MapContentSnapshot content) {
         MapContentItem item = new MapContentItem();
         
         item.setContentId(content.getContentId());
-        item.setUserId(content.getAuthor().getUserId());
+        item.setUserId(content.getUserId());
         
         // Author 정보
-        String displayNickname = content.getIsAnonymous() ? "익명" : content.getAuthor().getNickname();
+        String displayNickname = content.isAnonymous() ? "익명" : content.getNickname();
         AuthorInfo author = new AuthorInfo(
                 displayNickname,
-                content.getIsAnonymous()
+                content.isAnonymous()
         );
         item.setAuthor(author);
 
         // Location 정보
-        if (content.getLatitude() != null && content.getLongitude() != null) {
-            LocationInfo location = new LocationInfo(
-                    content.getLatitude().doubleValue(),
-                    content.getLongitude().doubleValue()
-            );
-            item.setLocation(location);
-        }
+        LocationInfo location = new LocationInfo(
+                content.getLatitude(),
+                content.getLongitude()
+        );
+        item.setLocation(location);
 
         // PostType 정보 (HOT 게시글 체크)
         boolean isHotContent = contentHotService.isHotContent(content.getContentId());
-        System.out.println("Content ID " + content.getContentId() + " - isHot: " + isHotContent + 
-                          ", originalPostType: " + content.getPostType().name());
         
         if (isHotContent) {
             // HOT 게시글인 경우 postType을 HOT으로 변경
             item.setPostType("HOT");
             item.setPostTypeName("인기글");
             item.setMarkerType(MarkerType.fromPostType(com.example.campung.global.enums.PostType.HOT).getMarkerType());
-            System.out.println("→ HOT 게시글로 변경됨");
         } else {
             // 일반 게시글인 경우 원래 postType 사용
             item.setPostType(content.getPostType().name());
@@ -317,23 +562,23 @@ public class MapContentService {
         item.setContentScope("MAP");
         
         // Content 상세 정보
-        item.setContentType(determineContentTypeFromUrl(content));
+        item.setContentType(determineContentTypeFromUrl(content.getFirstAttachmentUrl()));
         item.setTitle(content.getTitle());
-        item.setBody(content.getContent());
+        item.setBody(content.getBody());
         item.setEmotionTag(content.getEmotion());
         
         // MediaFiles 정보 (썸네일 URL만)
-        if (content.getAttachments() != null && !content.getAttachments().isEmpty()) {
-            List<MediaFileInfo> mediaFiles = content.getAttachments().stream()
-                    .map(attachment -> new MediaFileInfo(attachment.getThumbnailUrl()))
+        if (!content.getThumbnailUrls().isEmpty()) {
+            List<MediaFileInfo> mediaFiles = content.getThumbnailUrls().stream()
+                    .map(MediaFileInfo::new)
                     .collect(Collectors.toList());
             item.setMediaFiles(mediaFiles);
         }
         
         // Reactions 정보
         ReactionInfo reactions = new ReactionInfo(
-                content.getLikeCount() != null ? content.getLikeCount() : 0,
-                content.getCommentCount() != null ? content.getCommentCount() : 0
+                content.getLikeCount(),
+                content.getCommentCount()
         );
         item.setReactions(reactions);
         
@@ -344,18 +589,15 @@ public class MapContentService {
         return item;
     }
     
-    private String determineContentTypeFromUrl(Content content) {
-        if (content.getAttachments() != null && !content.getAttachments().isEmpty()) {
-            // 첫 번째 첨부파일의 URL로 디렉토리 구조 확인
-            String firstFileUrl = content.getAttachments().get(0).getUrl();
-            if (firstFileUrl != null) {
-                if (firstFileUrl.contains("/images/")) {
-                    return "PHOTO";
-                } else if (firstFileUrl.contains("/videos/")) {
-                    return "VIDEO";
-                } else if (firstFileUrl.contains("/audios/")) {
-                    return "AUDIO";
-                }
+    private String determineContentTypeFromUrl(String firstFileUrl) {
+        // 첫 번째 첨부파일의 URL로 디렉토리 구조 확인
+        if (firstFileUrl != null) {
+            if (firstFileUrl.contains("/images/")) {
+                return "PHOTO";
+            } else if (firstFileUrl.contains("/videos/")) {
+                return "VIDEO";
+            } else if (firstFileUrl.contains("/audios/")) {
+                return "AUDIO";
             }
         }
         return "TEXT"; // 첨부파일이 없으면 텍스트
@@ -0,0 +1,64 @@
+package com.example.campung.main.service;
+
+import com.example.campung.main.dto.MapIndexEvent;
+import com.example.campung.notification.relay.ClusterMessageTransport;
+import com.example.campung.notification.relay.RelayMessage;
+import com.example.campung.notification.service.TopicBroadcaster;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 지도 인덱스/클러스터/HOT 스냅샷 변경을 다른 노드에 전파
+ * WebSocket 중계 통로를 함께 쓰되 내부 목적지로 보내므로 STOMP 구독자에게는 전달되지 않음
+ * 단일 노드 구성(중계 비활성)이면 아무것도 보내지 않음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MapIndexRelay {
+
+    static final String DESTINATION = RelayMessage.INTERNAL_PREFIX + "map-index";
+
+    private final ClusterMessageTransport transport;
+    private final TopicBroadcaster topicBroadcaster;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 커밋된 변경만 보내야 하므로 커밋 이후에 호출
+     */
+    public void publish(MapIndexEvent event) {
+        if (!transport.isDistributed()) {
+            return;
+        }
+        try {
+            transport.publish(new RelayMessage(topicBroadcaster.getNodeId(), List.of(DESTINATION),
+                    objectMapper.writeValueAsString(event)));
+        } catch (Exception e) {
+            // 전파 실패 시 다른 노드는 다음 인덱스 재구성 때 맞춰짐
+            log.error("지도 인덱스 변경 전파 실패: {}", event, e);
+        }
+    }
+
+    /**
+     * 다른 노드가 보낸 이벤트 수신 등록 (자기 자신이 보낸 이벤트는 제외)
+     */
+    public void subscribe(Consumer<MapIndexEvent> listener) {
+        transport.subscribe(message -> {
+            if (topicBroadcaster.getNodeId().equals(message.originNodeId())
+                    || !message.destinations().contains(DESTINATION)) {
+                return;
+            }
+            try {
+                listener.accept(objectMapper.readValue(message.payload(), MapIndexEvent.class));
+            } catch (Exception e) {
+                log.error("지도 인덱스 변경 반영 실패: origin={}, payload={}",
+                        message.originNodeId(), message.payload(), e);
+            }
+        });
+    }
+}
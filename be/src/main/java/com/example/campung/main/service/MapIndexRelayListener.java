@@ -0,0 +1,36 @@
+package com.example.campung.main.service;
+
+import com.example.campung.content.service.ContentHotService;
+import com.example.campung.main.dto.MapIndexEvent;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 다른 노드에서 전파된 지도 인덱스 변경을 이 노드의 인덱스/HOT 스냅샷에 반영
+ * 반영 결과는 이 노드의 변경 로그에도 기록되므로 이 노드에 붙은 클라이언트도 /contents/changes 로 받음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MapIndexRelayListener {
+
+    private final MapIndexRelay mapIndexRelay;
+    private final MapContentIndex mapContentIndex;
+    private final ContentHotService contentHotService;
+
+    @PostConstruct
+    public void init() {
+        mapIndexRelay.subscribe(this::onEvent);
+    }
+
+    void onEvent(MapIndexEvent event) {
+        log.debug("지도 인덱스 변경 수신: {}", event);
+        if (event.type() == MapIndexEvent.Type.HOT_CHANGED) {
+            contentHotService.reloadHotSnapshot();
+        } else {
+            mapContentIndex.applyRelayed(event);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.campung.main.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 동일한 지도 조회 요청 병합 (single-flight)
+ * 같은 키로 동시에 들어온 요청은 하나의 계산 결과를 함께 기다리고,
+ * 완료된 결과는 짧은 시간(ttl) 동안 재사용
+ * 실패한 계산은 보관하지 않으므로 다음 요청이 다시 시도함
+ */
+@Component
+@RequiredArgsConstructor
+public class MapQueryCoalescer {
+
+    private static final int SWEEP_THRESHOLD = 1024;
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.map.query.coalesce-ttl-ms:1000}")
+    private long ttlMs;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String key, Supplier<T> loader) {
+        long now = System.currentTimeMillis();
+        if (entries.size() > SWEEP_THRESHOLD) {
+            entries.values().removeIf(entry -> entry.isExpired(now, ttlMs));
+        }
+
+        Entry created = new Entry();
+        Entry entry = entries.compute(key, (k, existing) ->
+                existing == null || existing.isExpired(now, ttlMs) ? created : existing);
+
+        if (entry != created) {
+            meterRegistry.counter("map.query.coalesce", "result", entry.future.isDone() ? "hit" : "shared").increment();
+            try {
+                return (T) entry.future.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof Error error) {
+                    throw error;
+                }
+                throw e.getCause() instanceof RuntimeException runtime ? runtime : e;
+            }
+        }
+
+        meterRegistry.counter("map.query.coalesce", "result", "miss").increment();
+        try {
+            T value = loader.get();
+            created.completedAt = System.currentTimeMillis();
+            created.future.complete(value);
+            return value;
+        } catch (Throwable e) {
+            // Error 도 완료 처리하지 않으면 대기 중인 요청이 계속 기다리고 항목도 만료되지 않음
+            entries.remove(key, created);
+            created.future.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private static final class Entry {
+        private final CompletableFuture<Object> future = new CompletableFuture<>();
+        private volatile long completedAt;
+
+        boolean isExpired(long now, long ttlMs) {
+            // 계산 중인 항목은 만료되지 않음
+            return future.isDone() && now - completedAt > ttlMs;
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.campung.notification.dto;
+
+/**
+ * 게시글 반응 수 변경 이벤트 (좋아요/댓글)
+ * 누적값(절대값)을 보내므로 같은 게시글의 이벤트는 마지막 값만 전달해도 됨
+ * 변경되지 않은 항목은 null
+ */
+public record ReactionCountEvent(long contentId, Integer likeCount, Integer commentCount, long updatedAt) {
+
+    public ReactionCountEvent merge(ReactionCountEvent newer) {
+        return new ReactionCountEvent(
+                contentId,
+                newer.likeCount != null ? newer.likeCount : likeCount,
+                newer.commentCount != null ? newer.commentCount : commentCount,
+                Math.max(updatedAt, newer.updatedAt));
+    }
+}
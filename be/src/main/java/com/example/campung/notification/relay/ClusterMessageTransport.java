@@ -0,0 +1,25 @@
+package com.example.campung.notification.relay;
+
+import java.util.function.Consumer;
+
+/**
+ * 서버 인스턴스 간 STOMP 메시지 중계 통로
+ * 각 노드는 로컬 구독자에게 직접 전달하고, 다른 노드에는 이 통로로 한 번만 전파함
+ */
+public interface ClusterMessageTransport {
+
+    /**
+     * 다른 노드로 중계 메시지 전파
+     */
+    void publish(RelayMessage message);
+
+    /**
+     * 다른 노드에서 전파된 메시지 수신 등록 (자기 자신이 보낸 메시지도 전달될 수 있음)
+     */
+    void subscribe(Consumer<RelayMessage> listener);
+
+    /**
+     * 다른 노드로 실제 전파하는 통로인지 여부 (단일 노드 구성이면 false)
+     */
+    boolean isDistributed();
+}
@@ -0,0 +1,24 @@
+package com.example.campung.notification.relay;
+
+import java.util.function.Consumer;
+
+/**
+ * 단일 노드 구성용 통로 (중계하지 않음)
+ */
+public class LocalClusterMessageTransport implements ClusterMessageTransport {
+
+    @Override
+    public void publish(RelayMessage message) {
+        // 다른 노드가 없으므로 전파할 대상 없음
+    }
+
+    @Override
+    public void subscribe(Consumer<RelayMessage> listener) {
+        // 외부에서 들어오는 메시지 없음
+    }
+
+    @Override
+    public boolean isDistributed() {
+        return false;
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.campung.notification.relay;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+
+/**
+ * Redis pub/sub 기반 노드 간 중계 통로
+ * 모든 노드가 같은 채널을 구독하므로 발행 1회당 노드마다 정확히 1번 수신함
+ */
+@Slf4j
+public class RedisClusterMessageTransport implements ClusterMessageTransport {
+
+    public static final String DEFAULT_CHANNEL = "campung:ws:relay";
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ObjectMapper objectMapper;
+    private final ChannelTopic channel;
+
+    public RedisClusterMessageTransport(StringRedisTemplate redisTemplate,
+                                        RedisMessageListenerContainer listenerContainer,
+                                        ObjectMapper objectMapper,
+                                        String channel) {
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.objectMapper = objectMapper;
+        this.channel = new ChannelTopic(channel);
+    }
+
+    @Override
+    public void publish(RelayMessage message) {
+        try {
+            redisTemplate.convertAndSend(channel.getTopic(), objectMapper.writeValueAsString(message));
+        } catch (Exception e) {
+            // 중계 실패는 다른 노드 구독자만 놓치므로 로컬 전송에는 영향을 주지 않음
+            log.error("노드 간 메시지 중계 실패: destinations={}", message.destinations(), e);
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<RelayMessage> listener) {
+        listenerContainer.addMessageListener((message, pattern) -> {
+            try {
+                String body = new String(message.getBody(), StandardCharsets.UTF_8);
+                listener.accept(objectMapper.readValue(body, RelayMessage.class));
+            } catch (Exception e) {
+                log.error("중계 메시지 처리 실패", e);
+            }
+        }, channel);
+    }
+
+    @Override
+    public boolean isDistributed() {
+        return true;
+    }
+}
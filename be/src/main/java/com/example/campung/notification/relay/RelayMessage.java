@@ -0,0 +1,21 @@
+package com.example.campung.notification.relay;
+
+import java.util.List;
+
+/**
+ * 노드 간 중계 메시지
+ * payload는 이미 직렬화된 JSON이므로 수신 노드는 타입 정보 없이 그대로 재전송함
+ * internal: 로 시작하는 목적지는 STOMP 토픽이 아닌 노드 간 내부 동기화용 (클라이언트에 전달하지 않음)
+ *
+ * @param originNodeId 발행한 노드 ID (자기 자신이 보낸 메시지 무시용)
+ * @param destinations 전달 대상 STOMP 목적지 목록
+ * @param payload      JSON 본문
+ */
+public record RelayMessage(String originNodeId, List<String> destinations, String payload) {
+
+    public static final String INTERNAL_PREFIX = "internal:";
+
+    public static boolean isInternal(String destination) {
+        return destination != null && destination.startsWith(INTERNAL_PREFIX);
+    }
+}
@@ -0,0 +1,119 @@
+package com.example.campung.notification.service;
+
+import com.example.campung.notification.dto.NewPostEvent;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 셀 토픽별 새 게시글 이벤트 묶음 전송
+ * 같은 토픽에 쌓인 이벤트를 flush-interval-ms 마다 또는 max-batch-size 개가 모이면 배열 프레임 하나로 전송
+ * 전체 대기 이벤트가 max-pending-events 를 넘으면 즉시 모두 전송하여 메모리 사용량을 제한
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NewPostEventBatcher {
+
+    private final TopicBroadcaster broadcaster;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.ws.batch.max-batch-size:20}")
+    private int maxBatchSize;
+
+    @Value("${app.ws.batch.max-pending-events:5000}")
+    private int maxPendingEvents;
+
+    // destination -> 대기 중인 이벤트 묶음
+    private final Map<String, PendingBatch> pending = new ConcurrentHashMap<>();
+    private final AtomicInteger pendingEvents = new AtomicInteger();
+
+    public void enqueue(List<String> destinations, NewPostEvent event) {
+        for (String destination : destinations) {
+            PendingBatch[] full = new PendingBatch[1];
+            pending.compute(destination, (key, batch) -> {
+                PendingBatch target = batch != null ? batch : new PendingBatch(System.nanoTime());
+                target.events.add(event);
+                if (target.events.size() >= maxBatchSize) {
+                    full[0] = target;
+                    return null;
+                }
+                return target;
+            });
+            pendingEvents.incrementAndGet();
+
+            if (full[0] != null) {
+                send(destination, full[0], "size");
+            }
+        }
+
+        if (pendingEvents.get() > maxPendingEvents) {
+            log.warn("새 게시글 이벤트 대기열 한도 초과, 즉시 전송: pending={}", pendingEvents.get());
+            flushAll("overflow");
+        }
+    }
+
+    /**
+     * 주기적 전송 (flush-interval-ms 가 이벤트당 최대 지연)
+     */
+    @Scheduled(fixedDelayString = "${app.ws.batch.flush-interval-ms:200}", scheduler = "realtimeFlushScheduler")
+    public void flush() {
+        flushAll("interval");
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flushAll("shutdown");
+    }
+
+    private void flushAll(String trigger) {
+        for (String destination : new ArrayList<>(pending.keySet())) {
+            PendingBatch batch = pending.remove(destination);
+            if (batch != null) {
+                send(destination, batch, trigger);
+            }
+        }
+    }
+
+    private void send(String destination, PendingBatch batch, String trigger) {
+        pendingEvents.addAndGet(-batch.events.size());
+        try {
+            broadcaster.broadcast(List.of(destination), batch.events);
+        } catch (Exception e) {
+            log.error("새 게시글 이벤트 묶음 전송 실패: destination={}, size={}", destination, batch.events.size(), e);
+        }
+
+        DistributionSummary.builder("ws.newpost.batch.size")
+                .tag("trigger", trigger)
+                .register(meterRegistry)
+                .record(batch.events.size());
+        // 묶음의 첫 이벤트가 대기한 시간 (이벤트당 최대 지연)
+        Timer.builder("ws.newpost.batch.flush.latency")
+                .tag("trigger", trigger)
+                .register(meterRegistry)
+                .record(System.nanoTime() - batch.createdAtNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private static final class PendingBatch {
+        private final long createdAtNanos;
+        // compute 안에서만 추가되고, 맵에서 제거된 뒤에만 읽힘
+        private final List<NewPostEvent> events = new ArrayList<>();
+
+        private PendingBatch(long createdAtNanos) {
+            this.createdAtNanos = createdAtNanos;
+        }
+    }
+}
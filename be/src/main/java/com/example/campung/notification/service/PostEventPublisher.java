@@ -1,34 +1,52 @@
 package com.example.campung.notification.service;
 
 import com.example.campung.geo.service.GeohashService;
+import com.example.campung.global.util.PackedGeohashUtil;
 import com.example.campung.notification.dto.NewPostEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class PostEventPublisher {
     
+    public static final String NEW_POST_TOPIC_PREFIX = "/topic/newpost/";
+    
+    // 줌 아웃 상태의 클라이언트가 구독하는 상위 셀 정밀도 (5: 약 4.9km, 6: 약 1.2km, 7: 약 150m)
+    private static final int[] COARSE_PRECISIONS = {5, 6, 7};
+    
     private final GeohashService geohash;
-    private final SimpMessagingTemplate broker;
+    private final NewPostEventBatcher batcher;
     
     public void publishNewPost(long postId, double lat, double lon) {
-        String cell = geohash.geohash8(lat, lon);
+        long cell8 = geohash.packedGeohash(lat, lon, 8);
+        String cell = PackedGeohashUtil.toString(cell8);
         var event = new NewPostEvent(postId, lat, lon, System.currentTimeMillis());
         
         try {
-            // 경계 보강: 중심 셀 + 8개 이웃 셀에 발행 (약 100m 반경)
-            for (String neighborCell : geohash.neighbors3x3(cell)) {
-                String topic = "/topic/newpost/" + neighborCell;
-                broker.convertAndSend(topic, event);
-                log.debug("Published to topic: {}", topic);
+            List<String> topics = new ArrayList<>();
+            // 경계 보강: 8자리는 중심 셀 + 8개 이웃 셀 (약 100m 반경)
+            long[] neighbors = new long[9];
+            int neighborCount = geohash.neighbors3x3(cell8, neighbors);
+            for (int i = 0; i < neighborCount; i++) {
+                topics.add(NEW_POST_TOPIC_PREFIX + PackedGeohashUtil.toString(neighbors[i]));
+            }
+            // 상위 정밀도는 게시글이 속한 셀만 (클라이언트가 화면 영역을 덮는 셀을 구독)
+            for (int precision : COARSE_PRECISIONS) {
+                topics.add(NEW_POST_TOPIC_PREFIX + cell.substring(0, precision));
             }
-            log.info("Published new post event to 9 cells: postId={}, centerCell={}", postId, cell);
+            
+            // 구독자 확인은 노드별로 이루어지므로 후보 토픽 전체를 넘김 (토픽별로 묶어서 배열 프레임으로 전송)
+            batcher.enqueue(topics, event);
+            log.info("Queued new post event for {} cells: postId={}, centerCell={}",
+                    topics.size(), postId, cell);
         } catch (Exception e) {
             log.error("Failed to publish new post event: postId={}, centerCell={}", postId, cell, e);
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,87 @@
+package com.example.campung.notification.service;
+
+import com.example.campung.geo.service.GeohashService;
+import com.example.campung.global.util.AfterCommitUtil;
+import com.example.campung.notification.dto.ReactionCountEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 좋아요/댓글 수 실시간 발행
+ * 같은 게시글의 변경은 flush-interval-ms 동안 마지막 값으로 합쳐서
+ * 상세 화면용 게시글 토픽과 지도 화면용 셀 토픽(배열 프레임)으로 전송
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ReactionEventPublisher {
+
+    public static final String CONTENT_TOPIC_PREFIX = "/topic/content/";
+    public static final String REACTION_CELL_TOPIC_PREFIX = "/topic/reaction/";
+    // 지도 화면 셀 토픽 정밀도 (6: 약 1.2km x 0.6km)
+    public static final int REACTION_CELL_PRECISION = 6;
+
+    private final GeohashService geohash;
+    private final TopicBroadcaster broadcaster;
+
+    // contentId -> 아직 보내지 않은 최신 반응 수
+    private final Map<Long, PendingReaction> pending = new ConcurrentHashMap<>();
+
+    public void publishLikeCount(long contentId, double lat, double lon, int likeCount) {
+        enqueueAfterCommit(new ReactionCountEvent(contentId, likeCount, null, System.currentTimeMillis()), lat, lon);
+    }
+
+    public void publishCommentCount(long contentId, double lat, double lon, int commentCount) {
+        enqueueAfterCommit(new ReactionCountEvent(contentId, null, commentCount, System.currentTimeMillis()), lat, lon);
+    }
+
+    private void enqueueAfterCommit(ReactionCountEvent event, double lat, double lon) {
+        // 커밋 전에 보내면 클라이언트가 재조회했을 때 이전 값을 볼 수 있음
+        AfterCommitUtil.run(() -> enqueue(event, lat, lon));
+    }
+
+    private void enqueue(ReactionCountEvent event, double lat, double lon) {
+        String cell = geohash.geohash(lat, lon, REACTION_CELL_PRECISION);
+        pending.merge(event.contentId(), new PendingReaction(event, cell),
+                (existing, added) -> new PendingReaction(existing.event.merge(added.event), added.cell));
+    }
+
+    @Scheduled(fixedDelayString = "${app.ws.reaction.flush-interval-ms:500}", scheduler = "realtimeFlushScheduler")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        Map<String, List<ReactionCountEvent>> eventsByCell = new HashMap<>();
+        for (Long contentId : new ArrayList<>(pending.keySet())) {
+            PendingReaction reaction = pending.remove(contentId);
+            if (reaction == null) {
+                continue;
+            }
+            eventsByCell.computeIfAbsent(reaction.cell, cell -> new ArrayList<>()).add(reaction.event);
+            send(List.of(CONTENT_TOPIC_PREFIX + contentId), reaction.event);
+        }
+
+        eventsByCell.forEach((cell, events) -> send(List.of(REACTION_CELL_TOPIC_PREFIX + cell), events));
+        log.debug("반응 수 이벤트 전송: cells={}", eventsByCell.size());
+    }
+
+    private void send(List<String> destinations, Object payload) {
+        try {
+            broadcaster.broadcast(destinations, payload);
+        } catch (Exception e) {
+            log.error("반응 수 이벤트 전송 실패: destinations={}", destinations, e);
+        }
+    }
+
+    private record PendingReaction(ReactionCountEvent event, String cell) {
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.campung.notification.service;
+
+import com.example.campung.notification.relay.ClusterMessageTransport;
+import com.example.campung.notification.relay.RelayMessage;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 여러 서버 인스턴스에 걸친 STOMP 토픽 발행
+ * 로컬 구독자에게는 바로 전송하고, 다른 노드에는 중계 통로로 1회 전파 → 각 노드가 자기 구독자에게 전송
+ */
+@Slf4j
+@Service
+public class TopicBroadcaster {
+
+    private final SimpMessagingTemplate broker;
+    private final TopicSubscriptionRegistry subscriptionRegistry;
+    private final ClusterMessageTransport transport;
+    private final ObjectMapper objectMapper;
+    private final String nodeId;
+
+    public TopicBroadcaster(SimpMessagingTemplate broker,
+                            TopicSubscriptionRegistry subscriptionRegistry,
+                            ClusterMessageTransport transport,
+                            ObjectMapper objectMapper,
+                            @Value("${app.ws.relay.node-id:}") String nodeId) {
+        this.broker = broker;
+        this.subscriptionRegistry = subscriptionRegistry;
+        this.transport = transport;
+        this.objectMapper = objectMapper;
+        this.nodeId = StringUtils.hasText(nodeId) ? nodeId : UUID.randomUUID().toString();
+    }
+
+    @PostConstruct
+    public void init() {
+        transport.subscribe(this::onRelayMessage);
+        log.info("토픽 발행기 초기화: nodeId={}, distributed={}", nodeId, transport.isDistributed());
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    /**
+     * 목적지 목록으로 발행 (구독 여부는 노드마다 다르므로 후보 목적지 전체를 넘겨야 함)
+     *
+     * @return 이 노드에서 실제 전송한 목적지 수
+     */
+    public int broadcast(List<String> destinations, Object payload) {
+        int delivered = deliverLocally(destinations, payload);
+
+        if (transport.isDistributed()) {
+            try {
+                String json = objectMapper.writeValueAsString(payload);
+                transport.publish(new RelayMessage(nodeId, List.copyOf(destinations), json));
+            } catch (Exception e) {
+                log.error("중계 메시지 직렬화 실패: destinations={}", destinations, e);
+            }
+        }
+        return delivered;
+    }
+
+    void onRelayMessage(RelayMessage message) {
+        // 자기 자신이 보낸 메시지는 이미 로컬 전송했으므로 무시 (노드당 정확히 1회 전달)
+        if (nodeId.equals(message.originNodeId())) {
+            return;
+        }
+        try {
+            JsonNode payload = objectMapper.readTree(message.payload());
+            int delivered = deliverLocally(message.destinations(), payload);
+            log.debug("중계 메시지 전달: origin={}, delivered={}/{}",
+                    message.originNodeId(), delivered, message.destinations().size());
+        } catch (Exception e) {
+            log.error("중계 메시지 전달 실패: origin={}", message.originNodeId(), e);
+        }
+    }
+
+    private int deliverLocally(List<String> destinations, Object payload) {
+        int delivered = 0;
+        for (String destination : destinations) {
+            // 내부 동기화 목적지와 이 노드에 구독자가 없는 토픽은 건너뜀
+            if (RelayMessage.isInternal(destination) || !subscriptionRegistry.hasSubscribers(destination)) {
+                continue;
+            }
+            broker.convertAndSend(destination, payload);
+            delivered++;
+        }
+        return delivered;
+    }
+}
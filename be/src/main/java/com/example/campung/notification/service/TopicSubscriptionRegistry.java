@@ -0,0 +1,81 @@
+package com.example.campung.notification.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * STOMP 토픽별 구독자 수 추적
+ * 구독자가 없는 셀 토픽에는 발행하지 않도록 발행 전에 확인하는 용도 (이 서버 인스턴스 기준)
+ */
+@Slf4j
+@Component
+public class TopicSubscriptionRegistry {
+
+    // sessionId -> (subscriptionId -> destination)
+    private final Map<String, Map<String, String>> subscriptionsBySession = new ConcurrentHashMap<>();
+    // destination -> 구독 수
+    private final Map<String, Integer> subscriberCounts = new ConcurrentHashMap<>();
+
+    public boolean hasSubscribers(String destination) {
+        return subscriberCounts.containsKey(destination);
+    }
+
+    public int subscriberCount(String destination) {
+        return subscriberCounts.getOrDefault(destination, 0);
+    }
+
+    @EventListener
+    public void onSubscribe(SessionSubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        String sessionId = accessor.getSessionId();
+        String subscriptionId = accessor.getSubscriptionId();
+        String destination = accessor.getDestination();
+        if (sessionId == null || subscriptionId == null || destination == null) {
+            return;
+        }
+
+        String previous = subscriptionsBySession
+                .computeIfAbsent(sessionId, id -> new ConcurrentHashMap<>())
+                .put(subscriptionId, destination);
+        if (previous != null) {
+            decrement(previous);
+        }
+        subscriberCounts.merge(destination, 1, Integer::sum);
+        log.debug("토픽 구독: session={}, destination={}", sessionId, destination);
+    }
+
+    @EventListener
+    public void onUnsubscribe(SessionUnsubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        Map<String, String> subscriptions = subscriptionsBySession.get(accessor.getSessionId());
+        if (subscriptions == null || accessor.getSubscriptionId() == null) {
+            return;
+        }
+
+        String destination = subscriptions.remove(accessor.getSubscriptionId());
+        if (destination != null) {
+            decrement(destination);
+        }
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        // 연결 종료 이벤트는 중복 발생할 수 있으므로 세션 항목을 먼저 제거
+        Map<String, String> subscriptions = subscriptionsBySession.remove(event.getSessionId());
+        if (subscriptions != null) {
+            subscriptions.values().forEach(this::decrement);
+        }
+    }
+
+    private void decrement(String destination) {
+        subscriberCounts.computeIfPresent(destination, (key, count) -> count > 1 ? count - 1 : null);
+    }
+}
@@ -7,6 +7,8 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,4 +19,31 @@ public interface RecordRepository extends JpaRepository<Record, Long> {
     
     @Query("SELECT r FROM Record r WHERE r.recordId = :recordId AND r.user = :user")
     Optional<Record> findByRecordIdAndUser(@Param("recordId") Long recordId, @Param("user") User user);
-}
\ No newline at end of file
+    
+    /**
+     * 지도용 녹음파일 id 조회 - (created_at, latitude, longitude) 복합 인덱스로 하루치 범위 안의
+     * 사각 영역만 읽은 뒤 구면 거리로 반경 확인 (날짜 조건이 캠퍼스 전체 사각 영역보다 훨씬 좁음)
+     */
+    @Query(value = """
+        SELECT r.record_id
+        FROM record r
+        WHERE r.created_at BETWEEN :startDate AND :endDate
+          AND r.latitude BETWEEN :minLat AND :maxLat
+          AND r.longitude BETWEEN :minLng AND :maxLng
+          AND ST_Distance_Sphere(r.location, ST_GeomFromText(:center)) <= :radiusMeters
+        """, nativeQuery = true)
+    List<Long> findRecordIdsNearby(@Param("minLat") double minLat,
+                                   @Param("maxLat") double maxLat,
+                                   @Param("minLng") double minLng,
+                                   @Param("maxLng") double maxLng,
+                                   @Param("center") String center,
+                                   @Param("radiusMeters") double radiusMeters,
+                                   @Param("startDate") LocalDateTime startDate,
+                                   @Param("endDate") LocalDateTime endDate);
+    
+    /**
+     * 지도 조회/변경분 조회용 - 작성자 포함 id 목록 조회 (최신순)
+     */
+    @Query("SELECT r FROM Record r JOIN FETCH r.user WHERE r.recordId IN :recordIds ORDER BY r.createdAt DESC")
+    List<Record> findWithUserByRecordIdIn(@Param("recordIds") Collection<Long> recordIds);
+}
@@ -3,6 +3,7 @@ package com.example.campung.record.service;
 import com.example.campung.content.service.S3Service;
 import com.example.campung.entity.Record;
 import com.example.campung.entity.User;
+import com.example.campung.main.service.MapChangeLog;
 import com.example.campung.record.dto.RecordCreateRequest;
 import com.example.campung.record.dto.RecordCreateResponse;
 import com.example.campung.record.dto.RecordDeleteResponse;
@@ -31,6 +32,9 @@ public class RecordService {
     @Autowired
     private com.example.campung.content.service.FileSizeValidationService fileSizeValidationService;
 
+    @Autowired
+    private MapChangeLog mapChangeLog;
+
     @Transactional
     public RecordCreateResponse createRecord(RecordCreateRequest request, String accessToken) throws IOException {
         System.out.println("=== 녹음파일 등록 시작 ===");
@@ -72,6 +76,7 @@ public class RecordService {
 
             Record record = recordBuilder.build();
             Record savedRecord = recordRepository.save(record);
+            recordMapChange(savedRecord);
 
             System.out.println("=== 녹음파일 DB 저장 완료 ===");
             System.out.println("저장된 Record ID: " + savedRecord.getRecordId());
@@ -111,6 +116,7 @@ public class RecordService {
 
             // DB에서 삭제
             recordRepository.delete(record);
+            recordMapChange(record);
 
             System.out.println("=== 녹음파일 삭제 완료 ===");
             System.out.println("삭제된 Record ID: " + recordId);
@@ -122,4 +128,10 @@ public class RecordService {
             return new RecordDeleteResponse(false, "녹음파일 삭제에 실패했습니다");
         }
     }
-}
\ No newline at end of file
+
+    private void recordMapChange(Record record) {
+        mapChangeLog.record(MapChangeLog.Target.RECORD, record.getRecordId(),
+                record.getLatitude() != null ? record.getLatitude().doubleValue() : null,
+                record.getLongitude() != null ? record.getLongitude().doubleValue() : null);
+    }
+}
@@ -1,6 +1,7 @@
 package com.example.campung.test.service;
 
 import com.example.campung.content.repository.ContentRepository;
+import com.example.campung.main.service.MapContentIndex;
 import com.example.campung.test.dto.TestContentResponse;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -14,6 +15,9 @@ public class AllContentDeleteService {
     @Autowired
     private ContentRepository contentRepository;
     
+    @Autowired
+    private MapContentIndex mapContentIndex;
+    
     @Transactional
     public TestContentResponse deleteAllContents() {
         try {
@@ -30,6 +34,7 @@ public class AllContentDeleteService {
             
             // 모든 컨텐츠 삭제 (cascade로 연관 엔티티들 자동 삭제)
             contentRepository.deleteAll();
+            mapContentIndex.rebuildOnAllNodes();
             log.info("=== 모든 컨텐츠 삭제 완료: {}개 ===", totalCount);
             
             // 삭제 후 확인
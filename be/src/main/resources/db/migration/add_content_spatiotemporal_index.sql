@@ -0,0 +1,2 @@
+-- Composite index for the past-date map content lookup (date range + bounding box)
+CREATE INDEX IF NOT EXISTS ix_content_created_lat_lng ON content (created_at, latitude, longitude);
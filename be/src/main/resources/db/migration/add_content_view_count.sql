@@ -0,0 +1,6 @@
+-- Add view_count column to content table (write-behind counter flush target)
+ALTER TABLE content ADD COLUMN view_count INT NOT NULL DEFAULT 0 AFTER comment_count;
+
+-- Backfill comment_count, which was never maintained before the counter service
+UPDATE content c
+SET c.comment_count = (SELECT COUNT(*) FROM comment cm WHERE cm.content_id = c.content_id);
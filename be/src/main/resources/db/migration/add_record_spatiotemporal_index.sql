@@ -0,0 +1,2 @@
+-- Composite index for the map record lookup (date range + bounding box)
+CREATE INDEX IF NOT EXISTS ix_record_created_lat_lng ON record (created_at, latitude, longitude);
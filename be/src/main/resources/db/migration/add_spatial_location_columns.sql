@@ -0,0 +1,18 @@
+-- POINT(longitude latitude) column + SPATIAL index for nearby lookups on content, record and landmarks
+-- Run before deploying the version whose entities map the location column.
+-- Rows without coordinates are stored as POINT(0 0) (SPATIAL index columns must be NOT NULL).
+
+ALTER TABLE content ADD COLUMN IF NOT EXISTS location POINT NULL;
+UPDATE content SET location = POINT(COALESCE(longitude, 0), COALESCE(latitude, 0)) WHERE location IS NULL;
+ALTER TABLE content MODIFY COLUMN location POINT NOT NULL;
+CREATE SPATIAL INDEX IF NOT EXISTS sx_content_location ON content (location);
+
+ALTER TABLE record ADD COLUMN IF NOT EXISTS location POINT NULL;
+UPDATE record SET location = POINT(COALESCE(longitude, 0), COALESCE(latitude, 0)) WHERE location IS NULL;
+ALTER TABLE record MODIFY COLUMN location POINT NOT NULL;
+CREATE SPATIAL INDEX IF NOT EXISTS sx_record_location ON record (location);
+
+ALTER TABLE landmarks ADD COLUMN IF NOT EXISTS location POINT NULL;
+UPDATE landmarks SET location = POINT(longitude, latitude) WHERE location IS NULL;
+ALTER TABLE landmarks MODIFY COLUMN location POINT NOT NULL;
+CREATE SPATIAL INDEX IF NOT EXISTS sx_landmarks_location ON landmarks (location);
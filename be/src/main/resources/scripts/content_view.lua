@@ -0,0 +1,16 @@
+-- 게시글 조회 기록 (HyperLogLog 기반 고유 조회자 집계)
+-- KEYS[1] 게시글 누적 조회자 HLL (content:viewers:{id})
+-- KEYS[2] 게시글 오늘 조회자 HLL (content:viewers:daily:{yyyy-MM-dd}:{id}) → HOT 조회 점수용
+-- KEYS[3] 캠퍼스 일간 활성 사용자 HLL (campus:actives:{yyyy-MM-dd})
+-- ARGV: 사용자 id, 일간 키 TTL(초)
+-- 반환: {누적 조회자 신규 여부, 오늘 조회자 신규 여부} (1 = 새 조회자)
+
+local newViewer = redis.call('PFADD', KEYS[1], ARGV[1])
+local newToday = redis.call('PFADD', KEYS[2], ARGV[1])
+if newToday == 1 then
+    redis.call('EXPIRE', KEYS[2], ARGV[2])
+end
+if redis.call('PFADD', KEYS[3], ARGV[1]) == 1 then
+    redis.call('EXPIRE', KEYS[3], ARGV[2])
+end
+return {newViewer, newToday}
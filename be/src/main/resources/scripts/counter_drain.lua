@@ -0,0 +1,9 @@
+-- 샤드의 미반영 증감을 꺼내고 비움 (꺼낸 뒤 들어온 증감은 다음 flush 에 반영)
+-- KEYS[1] 샤드별 미반영 증감 해시 (content:counts:delta:{shard})
+-- 반환: { field1, value1, field2, value2, ... }
+
+local entries = redis.call('HGETALL', KEYS[1])
+if #entries > 0 then
+    redis.call('DEL', KEYS[1])
+end
+return entries
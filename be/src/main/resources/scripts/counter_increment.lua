@@ -0,0 +1,12 @@
+-- 게시글 카운터 증감 (미반영 증감 누적 + 현재 값 캐시 갱신)
+-- KEYS[1] 게시글 현재 값 해시 (content:counts:{id}, field = like/comment/view)
+-- KEYS[2] 샤드별 미반영 증감 해시 (content:counts:delta:{shard}, field = {id}:{type})
+-- ARGV: 카운터 종류, 증감 필드, 증감값
+-- 반환: 갱신된 현재 값, 캐시가 없으면 nil (호출 측에서 DB 값 + 미반영 증감으로 적재)
+
+redis.call('HINCRBY', KEYS[2], ARGV[2], ARGV[3])
+if redis.call('EXISTS', KEYS[1]) == 0 then
+    return false
+end
+-- TTL 은 적재 시에만 설정 (주기적으로 DB 값 + 미반영 증감으로 다시 적재되어 어긋남이 오래 남지 않음)
+return redis.call('HINCRBY', KEYS[1], ARGV[1], ARGV[3])
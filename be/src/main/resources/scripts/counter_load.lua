@@ -0,0 +1,19 @@
+-- 게시글 카운터 캐시 적재 (DB 값 + 아직 DB 에 반영되지 않은 증감)
+-- KEYS[1] 게시글 현재 값 해시 (content:counts:{id})
+-- KEYS[2] 샤드별 미반영 증감 해시 (content:counts:delta:{shard})
+-- ARGV: contentId, DB 좋아요 수, DB 댓글 수, DB 조회 수, 캐시 TTL(초)
+-- 반환: { 좋아요 수, 댓글 수, 조회 수 } (이미 적재되어 있으면 기존 값)
+
+if redis.call('EXISTS', KEYS[1]) == 1 then
+    return redis.call('HMGET', KEYS[1], 'like', 'comment', 'view')
+end
+
+local id = ARGV[1]
+local pending = redis.call('HMGET', KEYS[2], id .. ':like', id .. ':comment', id .. ':view')
+local values = {}
+for i = 1, 3 do
+    values[i] = tonumber(ARGV[i + 1]) + (tonumber(pending[i]) or 0)
+end
+redis.call('HSET', KEYS[1], 'like', values[1], 'comment', values[2], 'view', values[3])
+redis.call('EXPIRE', KEYS[1], ARGV[5])
+return values
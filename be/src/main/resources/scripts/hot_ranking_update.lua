@@ -0,0 +1,115 @@
+-- 좋아요 버킷 갱신 + 24시간 합산 + 감쇠 점수 갱신 + HOT 멤버 갱신을 한 번에 원자적으로 처리
+-- KEYS[1] 게시글 버킷 해시 (content:likes:buckets:{id})
+-- KEYS[2] 24시간 좋아요 수 ZSET (hot:content:ranking) - HOT 자격(최소 좋아요 수) 판정용
+-- KEYS[3] 현재 HOT 멤버 SET (hot:content:members)
+-- KEYS[4] 캠퍼스 날짜별 감쇠 점수 ZSET (hot:content:score:{yyyy-MM-dd}) - HOT 순위 판정용
+-- KEYS[5..] 게시글이 속한 영역별 감쇠 점수 ZSET (hot:area:cell:*, hot:area:landmark:*) - 같은 증감을 적용
+-- ARGV: contentId, 증감 버킷, 증감값(0 이면 재평가만), 현재 버킷, 창 크기(버킷 수), 버킷 키 TTL(초), 상위 N, 최소 좋아요 수,
+--       점수 증감 부호(1, -1, 0), ln(가중치) + 경과시간/tau, 점수 키 TTL(초), 순위 후보 탐색 수
+-- 반환: { 24시간 좋아요 수, HOT 진입 id 목록, HOT 해제 id 목록 }
+--
+-- 감쇠 점수는 로그 공간에 저장: score = ln(sum(w * e^((t - 캠퍼스 날짜 시작) / tau)))
+-- 과거 이벤트를 다시 깎는 대신 새 이벤트를 더 크게 더하므로 주기적 재계산 없이 순서가 시간 감쇠와 같아짐
+
+local bucketKey, rankingKey, hotKey, scoreKey = KEYS[1], KEYS[2], KEYS[3], KEYS[4]
+local contentId = ARGV[1]
+local bucket = tonumber(ARGV[2])
+local delta = tonumber(ARGV[3])
+local current = tonumber(ARGV[4])
+local window = tonumber(ARGV[5])
+local ttl = tonumber(ARGV[6])
+local topN = tonumber(ARGV[7])
+local threshold = tonumber(ARGV[8])
+local scoreSign = tonumber(ARGV[9])
+local logIncrement = tonumber(ARGV[10])
+local scoreTtl = tonumber(ARGV[11])
+local scanLimit = tonumber(ARGV[12])
+local oldest = current - window + 1
+
+if delta ~= 0 and bucket >= oldest then
+    local value = redis.call('HINCRBY', bucketKey, bucket, delta)
+    -- 새 버킷이 처음 생길 때만 만료 버킷 정리 및 TTL 갱신
+    if delta > 0 and value == delta then
+        for _, field in ipairs(redis.call('HKEYS', bucketKey)) do
+            if tonumber(field) < oldest then
+                redis.call('HDEL', bucketKey, field)
+            end
+        end
+        redis.call('EXPIRE', bucketKey, ttl)
+    end
+end
+
+local fields = {}
+for b = oldest, current do
+    fields[#fields + 1] = b
+end
+local total = 0
+for _, value in ipairs(redis.call('HMGET', bucketKey, unpack(fields))) do
+    if value then
+        total = total + tonumber(value)
+    end
+end
+if total < 0 then
+    total = 0
+end
+
+if total > 0 then
+    redis.call('ZADD', rankingKey, total, contentId)
+else
+    redis.call('ZREM', rankingKey, contentId)
+end
+
+local function applyScore(key)
+    local old = tonumber(redis.call('ZSCORE', key, contentId))
+    if scoreSign > 0 then
+        -- ln(e^old + e^inc) 를 큰 값 기준으로 계산 (overflow 방지)
+        local updated = logIncrement
+        if old then
+            local high, low = math.max(old, logIncrement), math.min(old, logIncrement)
+            updated = high + math.log(1 + math.exp(low - high))
+        end
+        redis.call('ZADD', key, updated, contentId)
+        redis.call('EXPIRE', key, scoreTtl)
+    elseif old then
+        -- ln(e^old - e^inc), 남는 값이 없으면 제거
+        if logIncrement < old - 1e-9 then
+            redis.call('ZADD', key, old + math.log(1 - math.exp(logIncrement - old)), contentId)
+        else
+            redis.call('ZREM', key, contentId)
+        end
+    end
+end
+
+if scoreSign ~= 0 then
+    for i = 4, #KEYS do
+        applyScore(KEYS[i])
+    end
+end
+
+-- 감쇠 점수 순으로 최소 좋아요 수를 넘는 상위 N개가 HOT
+local hot, count = {}, 0
+for _, member in ipairs(redis.call('ZREVRANGE', scoreKey, 0, scanLimit - 1)) do
+    local likes = tonumber(redis.call('ZSCORE', rankingKey, member))
+    if likes and likes >= threshold then
+        hot[member] = true
+        count = count + 1
+        if count >= topN then
+            break
+        end
+    end
+end
+
+local entered, exited = {}, {}
+for member, _ in pairs(hot) do
+    if redis.call('SADD', hotKey, member) == 1 then
+        entered[#entered + 1] = member
+    end
+end
+for _, member in ipairs(redis.call('SMEMBERS', hotKey)) do
+    if not hot[member] then
+        redis.call('SREM', hotKey, member)
+        exited[#exited + 1] = member
+    end
+end
+
+return { total, entered, exited }
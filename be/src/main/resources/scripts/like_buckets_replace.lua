@@ -0,0 +1,12 @@
+-- 게시글 좋아요 버킷 해시를 통째로 교체 (삭제와 채우기 사이에 들어온 HINCRBY 가 사라지지 않도록 한 번에 실행)
+-- KEYS[1] 좋아요 버킷 해시 (content:likes:buckets:{id})
+-- ARGV[1] 키 TTL(초), ARGV[2..] 버킷, 좋아요 수, 버킷, 좋아요 수 ...
+-- 반환: 채운 버킷 수
+
+redis.call('DEL', KEYS[1])
+if #ARGV < 3 then
+    return 0
+end
+redis.call('HSET', KEYS[1], unpack(ARGV, 2))
+redis.call('EXPIRE', KEYS[1], ARGV[1])
+return (#ARGV - 1) / 2
@@ -0,0 +1,8 @@
+-- 잠금을 건 쪽일 때만 해제 (만료 후 다른 노드가 다시 잡은 잠금은 건드리지 않음)
+-- KEYS[1] 잠금 키, ARGV[1] 잠금을 걸 때 저장한 토큰
+-- 반환: 해제했으면 1, 아니면 0
+
+if redis.call('GET', KEYS[1]) == ARGV[1] then
+    return redis.call('DEL', KEYS[1])
+end
+return 0
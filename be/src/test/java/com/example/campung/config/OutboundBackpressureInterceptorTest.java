@@ -0,0 +1,173 @@
+package com.example.campung.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.AbstractWebSocketHandler;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 느린 세션의 대기열 정책(drop-oldest / keep-latest)과 쓰기가 멈춘 세션 종료 확인
+ * 소켓 쓰기는 래치로 멈춰 두고, 느린 세션 판단 기준은 0ms 로 두어 바로 대기열로 전환
+ */
+class OutboundBackpressureInterceptorTest {
+
+    private static final String SESSION_ID = "s1";
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<Message<?>> released = new CopyOnWriteArrayList<>();
+    private final MessageChannel channel = (message, timeout) -> released.add(message);
+    private final CountDownLatch writeStarted = new CountDownLatch(1);
+    private final CountDownLatch releaseWrite = new CountDownLatch(1);
+    private final WebSocketSession nativeSession = mock(WebSocketSession.class);
+    private Thread writer;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        releaseWrite.countDown();
+        if (writer != null) {
+            writer.join(5_000);
+        }
+    }
+
+    @Test
+    void dropOldestKeepsNewestMessagesInOrder() throws Exception {
+        OutboundBackpressureInterceptor interceptor = interceptor(10_000);
+        stallWrite(interceptor);
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(interceptor.preSend(message("/topic/newpost", i), channel)).isNull();
+        }
+
+        assertThat(interceptor.pendingBySession()).containsEntry(SESSION_ID, 2);
+        assertThat(meterRegistry.counter("ws.outbound.dropped", "policy", "drop_oldest").count()).isEqualTo(1);
+
+        // 쓰기가 끝나면 남은 메시지 중 가장 오래된 것부터 내보냄
+        finishWrite();
+        assertThat(released).hasSize(1);
+        assertThat(released.get(0).getPayload()).isEqualTo("1");
+        assertThat(interceptor.pendingBySession()).containsEntry(SESSION_ID, 1);
+    }
+
+    @Test
+    void keepLatestReplacesPendingMessageForSameDestination() throws Exception {
+        OutboundBackpressureInterceptor interceptor = interceptor(10_000);
+        stallWrite(interceptor);
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(interceptor.preSend(message("/topic/reaction/abc", i), channel)).isNull();
+        }
+        interceptor.preSend(message("/topic/reaction/def", 9), channel);
+
+        assertThat(interceptor.pendingBySession()).containsEntry(SESSION_ID, 2);
+        assertThat(meterRegistry.counter("ws.outbound.dropped", "policy", "keep_latest").count()).isEqualTo(2);
+
+        finishWrite();
+        assertThat(released).hasSize(1);
+        assertThat(released.get(0).getPayload()).isEqualTo("2");
+    }
+
+    @Test
+    void stalledWriteClosesSessionAsSlowConsumer() throws Exception {
+        OutboundBackpressureInterceptor interceptor = interceptor(50);
+        stallWrite(interceptor);
+        Thread.sleep(100);
+
+        assertThat(interceptor.preSend(message("/topic/newpost", 0), channel)).isNull();
+        assertThat(interceptor.preSend(message("/topic/newpost", 1), channel)).isNull();
+
+        verify(nativeSession).close(CloseStatus.SESSION_NOT_RELIABLE);
+        assertThat(interceptor.pendingBySession()).containsEntry(SESSION_ID, 0);
+
+        interceptor.onDisconnect(new SessionDisconnectEvent(this,
+                MessageBuilder.withPayload(new byte[0]).build(), SESSION_ID,
+                CloseStatus.NO_CLOSE_FRAME));
+        assertThat(meterRegistry.counter("ws.session.disconnect", "reason", "slow_consumer").count()).isEqualTo(1);
+    }
+
+    @Test
+    void fastSessionSendsDirectly() throws Exception {
+        OutboundBackpressureInterceptor interceptor = interceptor(10_000);
+        connect(interceptor);
+
+        Message<?> message = message("/topic/newpost", 0);
+        assertThat(interceptor.preSend(message, channel)).isSameAs(message);
+        verify(nativeSession, never()).close(any());
+    }
+
+    private OutboundBackpressureInterceptor interceptor(long sendTimeLimitMs) {
+        return new OutboundBackpressureInterceptor(meterRegistry, 0, sendTimeLimitMs, 2,
+                List.of("/topic/content/", "/topic/reaction/", "/topic/campus/"));
+    }
+
+    private WebSocketSession connect(OutboundBackpressureInterceptor interceptor) throws Exception {
+        when(nativeSession.getId()).thenReturn(SESSION_ID);
+        AtomicReference<WebSocketSession> decorated = new AtomicReference<>();
+        WebSocketHandler handler = interceptor.decorate(new AbstractWebSocketHandler() {
+            @Override
+            public void afterConnectionEstablished(WebSocketSession session) {
+                decorated.set(session);
+            }
+        });
+        handler.afterConnectionEstablished(nativeSession);
+        return decorated.get();
+    }
+
+    /**
+     * 다른 스레드에서 소켓 쓰기를 시작하고 releaseWrite 전까지 멈춰 둠
+     */
+    private void stallWrite(OutboundBackpressureInterceptor interceptor) throws Exception {
+        WebSocketSession session = connect(interceptor);
+        doAnswer(invocation -> {
+            writeStarted.countDown();
+            releaseWrite.await(5, TimeUnit.SECONDS);
+            return null;
+        }).when(nativeSession).sendMessage(any());
+
+        writer = new Thread(() -> {
+            try {
+                session.sendMessage(new TextMessage("first"));
+            } catch (Exception ignored) {
+                // 테스트 종료 시 정리
+            }
+        });
+        writer.start();
+        assertThat(writeStarted.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    private void finishWrite() throws InterruptedException {
+        releaseWrite.countDown();
+        writer.join(5_000);
+    }
+
+    private static Message<String> message(String destination, int index) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setDestination(destination);
+        accessor.setSessionId(SESSION_ID);
+        return MessageBuilder.createMessage(String.valueOf(index), accessor.getMessageHeaders());
+    }
+}
@@ -0,0 +1,230 @@
+package com.example.campung.content.service;
+
+import com.example.campung.content.repository.ContentLikeRepository;
+import com.example.campung.content.repository.ContentRepository;
+import com.example.campung.entity.Content;
+import com.example.campung.entity.User;
+import com.example.campung.global.enums.PostType;
+import com.example.campung.main.service.MapContentIndex;
+import com.example.campung.notification.service.NotificationService;
+import com.example.campung.notification.service.ReactionEventPublisher;
+import com.example.campung.user.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import redis.embedded.RedisServer;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.net.ServerSocket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 여러 사용자가 동시에 좋아요를 토글해도(같은 사용자의 중복 탭 포함)
+ * 카운터와 DB 반영 후 like_count 가 실제 좋아요 행 수와 일치하는지 검증
+ * H2 인메모리 DB + 내장 Redis(카운터) 사용, HOT 랭킹/알림 쪽은 목으로 대체
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ContentLikeService.class, ContentCounterService.class, ContentLikeConcurrencyTest.RedisTestConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestPropertySource(properties = {
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.url=jdbc:h2:mem:like-toggle;MODE=MariaDB;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=USER;"
+                + "LOCK_TIMEOUT=10000;INIT=RUNSCRIPT FROM 'classpath:db/h2/spatial_compat.sql'",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.datasource.hikari.maximum-pool-size=16",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false"
+})
+class ContentLikeConcurrencyTest {
+
+    private static final int USERS = 40;
+    private static final int DUPLICATE_TAPS = 8;
+
+    @Autowired
+    private ContentLikeService contentLikeService;
+
+    @Autowired
+    private ContentRepository contentRepository;
+
+    @Autowired
+    private ContentLikeRepository contentLikeRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ContentCounterService contentCounterService;
+
+    @MockitoBean
+    private ContentHotTrackingService contentHotTrackingService;
+
+    @MockitoBean
+    private ContentHotService contentHotService;
+
+    @MockitoBean
+    private NotificationService notificationService;
+
+    @MockitoBean
+    private MapContentIndex mapContentIndex;
+
+    @MockitoBean
+    private ReactionEventPublisher reactionEventPublisher;
+
+    @Test
+    void parallelTogglesKeepLikeCountEqualToLikeRows() throws Exception {
+        Long contentId = createContent("author");
+
+        for (int i = 0; i < USERS; i++) {
+            userRepository.save(User.builder()
+                    .userId("user-" + i)
+                    .nickname("user-" + i)
+                    .passwordHash("temp_hash")
+                    .build());
+        }
+
+        // 사용자 i 는 (i % 3) + 1 번 토글 → 홀수 번 토글한 사용자만 최종적으로 좋아요 상태
+        int expectedLikes = 0;
+        for (int i = 0; i < USERS; i++) {
+            if (((i % 3) + 1) % 2 == 1) {
+                expectedLikes++;
+            }
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(USERS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < USERS; i++) {
+            String userId = "user-" + i;
+            int toggles = (i % 3) + 1;
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int t = 0; t < toggles; t++) {
+                    contentLikeService.toggleLike(contentId, userId);
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        assertEquals(expectedLikes, contentLikeRepository.countByContentId(contentId));
+        assertEquals(expectedLikes, contentCounterService.getCounts(contentId).likeCount());
+
+        // 배치 반영 후 DB 컬럼도 같은 값이고, 정합성 점검에서 보정할 게시글이 없어야 함
+        contentCounterService.flush();
+        assertEquals(expectedLikes, contentRepository.findById(contentId).orElseThrow().getLikeCount());
+        assertEquals(0, contentCounterService.reconcile());
+    }
+
+    @Test
+    void duplicateParallelTapsFromOneUserChangeAtMostOneRow() throws Exception {
+        Long contentId = createContent("dup-author");
+        userRepository.save(User.builder()
+                .userId("tapper")
+                .nickname("tapper")
+                .passwordHash("temp_hash")
+                .build());
+
+        ExecutorService executor = Executors.newFixedThreadPool(DUPLICATE_TAPS);
+        try {
+            // 같은 사용자가 여러 번 연타 → 같은 상태를 본 요청 중 하나만 행을 바꾸고 나머지는 영향 행 0
+            for (int round = 0; round < 3; round++) {
+                CountDownLatch start = new CountDownLatch(1);
+                List<Future<?>> futures = new ArrayList<>();
+                for (int i = 0; i < DUPLICATE_TAPS; i++) {
+                    futures.add(executor.submit(() -> {
+                        start.await();
+                        contentLikeService.toggleLike(contentId, "tapper");
+                        return null;
+                    }));
+                }
+                start.countDown();
+                for (Future<?> future : futures) {
+                    future.get(60, TimeUnit.SECONDS);
+                }
+
+                long rows = contentLikeRepository.countByContentId(contentId);
+                assertTrue(rows <= 1, "한 사용자의 좋아요 행은 최대 1개");
+                assertEquals(rows, contentCounterService.getCounts(contentId).likeCount());
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        long rows = contentLikeRepository.countByContentId(contentId);
+        contentCounterService.flush();
+        assertEquals(rows, (long) contentRepository.findById(contentId).orElseThrow().getLikeCount());
+        assertEquals(0, contentCounterService.reconcile());
+    }
+
+    private Long createContent(String authorId) {
+        User author = userRepository.save(User.builder()
+                .userId(authorId)
+                .nickname("작성자")
+                .passwordHash("temp_hash")
+                .build());
+        return contentRepository.save(Content.builder()
+                .title("제목")
+                .content("내용")
+                .author(author)
+                .postType(PostType.FREE)
+                .latitude(BigDecimal.valueOf(36.1070))
+                .longitude(BigDecimal.valueOf(128.4160))
+                .build()).getContentId();
+    }
+
+    @TestConfiguration
+    static class RedisTestConfig {
+
+        @Bean(destroyMethod = "stop")
+        RedisServer redisServer() throws Exception {
+            int port;
+            try (ServerSocket socket = new ServerSocket(0)) {
+                port = socket.getLocalPort();
+            }
+            RedisServer server = new RedisServer(port);
+            server.start();
+            return server;
+        }
+
+        @Bean
+        LettuceConnectionFactory redisConnectionFactory(RedisServer redisServer) {
+            return new LettuceConnectionFactory("localhost", redisServer.ports().get(0));
+        }
+
+        @Bean
+        StringRedisTemplate stringRedisTemplate(LettuceConnectionFactory redisConnectionFactory) {
+            return new StringRedisTemplate(redisConnectionFactory);
+        }
+
+        @Bean
+        JdbcTemplate jdbcTemplate(DataSource dataSource) {
+            return new JdbcTemplate(dataSource);
+        }
+    }
+}
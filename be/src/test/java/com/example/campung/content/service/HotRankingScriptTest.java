@@ -0,0 +1,188 @@
+package com.example.campung.content.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import redis.embedded.RedisServer;
+
+import java.net.ServerSocket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.offset;
+
+/**
+ * HOT 랭킹 스크립트(scripts/hot_ranking_update.lua)를 내장 Redis 에서 직접 실행해
+ * 24시간 버킷 창, HOT 진입/해제 판정, 로그 공간 감쇠 점수 가감을 확인
+ * 새로고침 시 버킷 해시 교체 스크립트(scripts/like_buckets_replace.lua)도 함께 확인
+ */
+class HotRankingScriptTest {
+
+    private static final String RANKING_KEY = "hot:content:ranking";
+    private static final String MEMBERS_KEY = "hot:content:members";
+    private static final String SCORE_KEY = "hot:content:score:test";
+    private static final String AREA_KEY = "hot:area:cell:test";
+    private static final int WINDOW = 4;
+    private static final int TOP_N = 1;
+    private static final int MIN_LIKES = 2;
+
+    @SuppressWarnings("rawtypes")
+    private static final DefaultRedisScript<List> SCRIPT = new DefaultRedisScript<>();
+
+    private static final DefaultRedisScript<Long> REPLACE_SCRIPT = new DefaultRedisScript<>();
+
+    static {
+        SCRIPT.setLocation(new ClassPathResource("scripts/hot_ranking_update.lua"));
+        SCRIPT.setResultType(List.class);
+        REPLACE_SCRIPT.setLocation(new ClassPathResource("scripts/like_buckets_replace.lua"));
+        REPLACE_SCRIPT.setResultType(Long.class);
+    }
+
+    private RedisServer redisServer;
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate redis;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        redisServer = new RedisServer(port);
+        redisServer.start();
+        connectionFactory = new LettuceConnectionFactory("localhost", port);
+        connectionFactory.afterPropertiesSet();
+        redis = new StringRedisTemplate(connectionFactory);
+        redis.afterPropertiesSet();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        connectionFactory.destroy();
+        redisServer.stop();
+    }
+
+    @Test
+    void onlyBucketsInsideWindowAreCounted() {
+        // 현재 버킷 1000, 창 4개 → 997 ~ 1000
+        assertThat(likes(run(1L, 996, 1, 1000, 0, 0))).isZero();
+        run(1L, 998, 1, 1000, 0, 0);
+        run(1L, 998, 1, 1000, 0, 0);
+        assertThat(likes(run(1L, 1000, 1, 1000, 0, 0))).isEqualTo(3);
+        assertThat(redis.opsForZSet().score(RANKING_KEY, "1")).isEqualTo(3.0);
+
+        // 두 버킷 뒤에는 998 버킷이 창 밖으로 밀려남
+        assertThat(likes(run(1L, 1002, 0, 1002, 0, 0))).isEqualTo(1);
+
+        // 새 버킷이 생길 때 창 밖 버킷 정리
+        run(1L, 1002, 1, 1002, 0, 0);
+        assertThat(redis.opsForHash().keys(bucketKey(1L))).containsExactlyInAnyOrder("1000", "1002");
+
+        // 창 밖 좋아요가 모두 빠지면 랭킹에서도 제거
+        assertThat(likes(run(1L, 1002, 0, 1006, 0, 0))).isZero();
+        assertThat(redis.opsForZSet().score(RANKING_KEY, "1")).isNull();
+    }
+
+    @Test
+    void higherScoreWithMinimumLikesReplacesHotMember() {
+        run(1L, 1000, 1, 1000, 1, 0.0);
+        List<?> first = run(1L, 1000, 1, 1000, 1, 0.0);
+        assertThat(entered(first)).containsExactly("1");
+        assertThat(exited(first)).isEmpty();
+
+        // 점수는 더 높지만 최소 좋아요 수 미달이면 HOT 아님
+        List<?> below = run(2L, 1000, 1, 1000, 1, 5.0);
+        assertThat(entered(below)).isEmpty();
+        assertThat(exited(below)).isEmpty();
+
+        List<?> replaced = run(2L, 1000, 1, 1000, 1, 5.0);
+        assertThat(entered(replaced)).containsExactly("2");
+        assertThat(exited(replaced)).containsExactly("1");
+        assertThat(redis.opsForSet().members(MEMBERS_KEY)).containsExactly("2");
+
+        // 같은 상태로 다시 평가하면 변화 없음
+        List<?> unchanged = run(2L, 1000, 0, 1000, 0, 0);
+        assertThat(entered(unchanged)).isEmpty();
+        assertThat(exited(unchanged)).isEmpty();
+    }
+
+    @Test
+    void scoreIsLogSumExpOfIncrementsAndSubtractsBack() {
+        double a = 1.5;
+        double b = 3.0;
+        run(1L, 1000, 1, 1000, 1, a, AREA_KEY);
+        run(1L, 1000, 1, 1000, 1, b, AREA_KEY);
+
+        double expected = Math.log(Math.exp(a) + Math.exp(b));
+        assertThat(redis.opsForZSet().score(SCORE_KEY, "1")).isCloseTo(expected, offset(1e-9));
+        assertThat(redis.opsForZSet().score(AREA_KEY, "1")).isCloseTo(expected, offset(1e-9));
+
+        // 취소는 같은 증가분을 빼서 남은 이벤트 점수로 돌아감
+        run(1L, 1000, -1, 1000, -1, b, AREA_KEY);
+        assertThat(redis.opsForZSet().score(SCORE_KEY, "1")).isCloseTo(a, offset(1e-9));
+        assertThat(redis.opsForZSet().score(AREA_KEY, "1")).isCloseTo(a, offset(1e-9));
+
+        // 남는 값이 없으면 제거
+        run(1L, 1000, -1, 1000, -1, a, AREA_KEY);
+        assertThat(redis.opsForZSet().score(SCORE_KEY, "1")).isNull();
+        assertThat(redis.opsForZSet().score(AREA_KEY, "1")).isNull();
+    }
+
+    @Test
+    void bucketReplaceSwapsWholeHashWithTtl() {
+        run(1L, 990, 1, 1000, 0, 0);
+        run(1L, 1000, 1, 1000, 0, 0);
+
+        Long filled = redis.execute(REPLACE_SCRIPT, List.of(bucketKey(1L)), "3600", "999", "2", "1000", "3");
+
+        assertThat(filled).isEqualTo(2);
+        assertThat(redis.opsForHash().entries(bucketKey(1L)))
+                .containsExactlyInAnyOrderEntriesOf(Map.of("999", "2", "1000", "3"));
+        assertThat(redis.getExpire(bucketKey(1L))).isPositive();
+
+        // 채울 버킷이 없으면 삭제만
+        assertThat(redis.execute(REPLACE_SCRIPT, List.of(bucketKey(1L)), "3600")).isZero();
+        assertThat(redis.hasKey(bucketKey(1L))).isFalse();
+    }
+
+    private List<?> run(Long contentId, long bucket, long delta, long current, long scoreSign, double logIncrement,
+                        String... areaKeys) {
+        List<String> keys = new ArrayList<>(List.of(bucketKey(contentId), RANKING_KEY, MEMBERS_KEY, SCORE_KEY));
+        keys.addAll(List.of(areaKeys));
+        return redis.execute(SCRIPT, keys,
+                contentId.toString(),
+                Long.toString(bucket),
+                Long.toString(delta),
+                Long.toString(current),
+                Integer.toString(WINDOW),
+                "3600",
+                Integer.toString(TOP_N),
+                Integer.toString(MIN_LIKES),
+                Long.toString(scoreSign),
+                Double.toString(logIncrement),
+                "3600",
+                "10");
+    }
+
+    private static String bucketKey(Long contentId) {
+        return "content:likes:buckets:" + contentId;
+    }
+
+    private static long likes(List<?> result) {
+        return ((Number) result.get(0)).longValue();
+    }
+
+    private static List<String> entered(List<?> result) {
+        return ((List<?>) result.get(1)).stream().map(Object::toString).toList();
+    }
+
+    private static List<String> exited(List<?> result) {
+        return ((List<?>) result.get(2)).stream().map(Object::toString).toList();
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.campung.global.util;
+
+import com.github.davidmoten.geo.GeoHash;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.offset;
+
+/**
+ * long 인코딩 geohash 가 문자열 구현(davidmoten GeoHash)과 같은 셀을 내는지 확인
+ */
+class PackedGeohashUtilTest {
+
+    private final Random random = new Random(42);
+
+    @Test
+    void encodeMatchesStringEncoderForAllPrecisions() {
+        for (int i = 0; i < 2_000; i++) {
+            double lat = random.nextDouble() * 170 - 85;
+            double lon = random.nextDouble() * 360 - 180;
+            for (int precision = 1; precision <= PackedGeohashUtil.MAX_PRECISION; precision++) {
+                String expected = GeoHash.encodeHash(lat, lon, precision);
+                long packed = PackedGeohashUtil.encode(lat, lon, precision);
+
+                assertThat(PackedGeohashUtil.toString(packed)).isEqualTo(expected);
+                assertThat(PackedGeohashUtil.fromString(expected)).isEqualTo(packed);
+                assertThat(PackedGeohashUtil.centerLatitude(packed))
+                        .isCloseTo(GeoHash.decodeHash(expected).getLat(), offset(1e-9));
+                assertThat(PackedGeohashUtil.centerLongitude(packed))
+                        .isCloseTo(GeoHash.decodeHash(expected).getLon(), offset(1e-9));
+            }
+        }
+    }
+
+    @Test
+    void parentAndStartsWithMatchStringPrefixes() {
+        for (int i = 0; i < 1_000; i++) {
+            double lat = random.nextDouble() * 170 - 85;
+            double lon = random.nextDouble() * 360 - 180;
+            String hash = GeoHash.encodeHash(lat, lon, 8);
+            long packed = PackedGeohashUtil.fromString(hash);
+
+            for (int precision = 1; precision <= 8; precision++) {
+                long parent = PackedGeohashUtil.parent(packed, precision);
+                assertThat(PackedGeohashUtil.toString(parent)).isEqualTo(hash.substring(0, precision));
+                assertThat(PackedGeohashUtil.startsWith(packed, parent)).isTrue();
+            }
+            long other = PackedGeohashUtil.encode(-lat, lon + (lon > 0 ? -90 : 90), 5);
+            assertThat(PackedGeohashUtil.startsWith(packed, other))
+                    .isEqualTo(hash.startsWith(PackedGeohashUtil.toString(other)));
+        }
+    }
+
+    @Test
+    void neighborsMatchStringNeighbours() {
+        long[] out = new long[9];
+        for (int i = 0; i < 1_000; i++) {
+            double lat = random.nextDouble() * 160 - 80;
+            double lon = random.nextDouble() * 360 - 180;
+            int precision = 5 + random.nextInt(4);
+            String hash = GeoHash.encodeHash(lat, lon, precision);
+
+            Set<String> expected = new HashSet<>(GeoHash.neighbours(hash));
+            expected.add(hash);
+
+            int count = PackedGeohashUtil.neighbors3x3(PackedGeohashUtil.fromString(hash), out);
+            Set<String> actual = new HashSet<>();
+            for (int j = 0; j < count; j++) {
+                actual.add(PackedGeohashUtil.toString(out[j]));
+            }
+            assertThat(actual).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void coverBoundingBoxMatchesStringCover() {
+        for (int i = 0; i < 200; i++) {
+            double minLat = 37.0 + random.nextDouble() * 0.5;
+            double minLng = 127.0 + random.nextDouble() * 0.5;
+            double maxLat = minLat + random.nextDouble() * 0.05;
+            double maxLng = minLng + random.nextDouble() * 0.05;
+            int precision = 5 + random.nextInt(3);
+
+            Set<String> expected = GeoHash.coverBoundingBox(maxLat, minLng, minLat, maxLng, precision).getHashes();
+            Set<String> actual = new HashSet<>();
+            for (long cell : PackedGeohashUtil.coverBoundingBox(minLat, maxLat, minLng, maxLng, precision)) {
+                actual.add(PackedGeohashUtil.toString(cell));
+            }
+            assertThat(actual).isEqualTo(expected);
+        }
+    }
+}
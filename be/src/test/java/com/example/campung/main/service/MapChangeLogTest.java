@@ -0,0 +1,63 @@
+package com.example.campung.main.service;
+
+import com.example.campung.geo.service.GeohashService;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 노드마다 다른 epoch 로 커서를 발급하여 다른 노드의 커서는 전체 재동기화로 처리되는지 확인
+ */
+class MapChangeLogTest {
+
+    @Test
+    void cursorFromAnotherNodeRequiresResync() {
+        MapChangeLog nodeA = changeLog(1L);
+        MapChangeLog nodeB = changeLog(2L);
+
+        nodeA.record(MapChangeLog.Target.CONTENT, 10L, null, null);
+        nodeB.record(MapChangeLog.Target.CONTENT, 20L, null, null);
+        nodeB.record(MapChangeLog.Target.CONTENT, 21L, null, null);
+
+        // A 에서 받은 커서가 B 의 순번 범위와 겹치더라도 B 는 재동기화 요구
+        MapChangeLog.ChangeSet fromA = nodeB.changesSince(nodeA.currentCursor() - 1, Set.of());
+        assertThat(fromA.resyncRequired()).isTrue();
+        assertThat(fromA.cursor()).isEqualTo(nodeB.currentCursor());
+
+        MapChangeLog.ChangeSet own = nodeA.changesSince(nodeA.currentCursor() - 1, Set.of());
+        assertThat(own.resyncRequired()).isFalse();
+        assertThat(own.contentIds()).containsExactly(10L);
+    }
+
+    @Test
+    void cursorFromBeforeResetRequiresResync() {
+        MapChangeLog changeLog = changeLog(1L);
+        changeLog.record(MapChangeLog.Target.RECORD, 1L, null, null);
+        long beforeReset = changeLog.currentCursor();
+
+        changeLog.reset();
+        changeLog.record(MapChangeLog.Target.RECORD, 2L, null, null);
+
+        assertThat(changeLog.changesSince(beforeReset, Set.of()).resyncRequired()).isTrue();
+        assertThat(changeLog.changesSince(changeLog.currentCursor(), Set.of()).recordIds()).isEmpty();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static MapChangeLog changeLog(long epoch) {
+        StringRedisTemplate redis = mock(StringRedisTemplate.class);
+        ValueOperations<String, String> values = mock(ValueOperations.class);
+        when(redis.opsForValue()).thenReturn(values);
+        when(values.increment(anyString())).thenReturn(epoch);
+
+        MapChangeLog changeLog = new MapChangeLog(new GeohashService(), redis);
+        changeLog.init();
+        return changeLog;
+    }
+}
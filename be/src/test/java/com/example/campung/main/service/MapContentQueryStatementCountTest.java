@@ -0,0 +1,204 @@
+package com.example.campung.main.service;
+
+import com.example.campung.content.repository.ContentRepository;
+import com.example.campung.entity.Attachment;
+import com.example.campung.entity.Content;
+import com.example.campung.entity.User;
+import com.example.campung.global.enums.PostType;
+import com.example.campung.global.util.CampusDateUtil;
+import com.example.campung.main.dto.MapContentSnapshot;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.TestPropertySource;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 과거 날짜 지도 콘텐츠 조회(반경 내 id 네이티브 조회 + 프로젝션 조회)의 SQL 실행 횟수가
+ * 결과 건수와 무관하게 일정한지, 반경/날짜 조건이 적용되는지 검증
+ * H2 인메모리 DB 사용 (ST_Distance_Sphere 는 spatial_compat.sql 의 대체 함수)
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = {
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.url=jdbc:h2:mem:map-query;MODE=MariaDB;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=USER;"
+                + "INIT=RUNSCRIPT FROM 'classpath:db/h2/spatial_compat.sql'",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.show-sql=false"
+})
+class MapContentQueryStatementCountTest {
+
+    private static final double LAT = 36.1070;
+    private static final double LNG = 128.4160;
+    private static final int RADIUS_METERS = 500;
+
+    @Autowired
+    private ContentRepository contentRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private final LocalDate today = CampusDateUtil.getCurrentCampusDate();
+
+    @Test
+    void statementCountIsConstantRegardlessOfResultSize() {
+        User author = User.builder()
+                .userId("author")
+                .nickname("작성자")
+                .passwordHash("temp_hash")
+                .build();
+        entityManager.persist(author);
+
+        assertEquals(1, countStatementsForMapQuery(), "결과 0건");
+
+        persistContents(author, 1);
+        long single = countStatementsForMapQuery();
+
+        persistContents(author, 30);
+        long many = countStatementsForMapQuery();
+
+        // id 조회 1회 + 프로젝션 조회 1회
+        assertEquals(2, single);
+        assertEquals(single, many);
+    }
+
+    @Test
+    void nearbyLookupAppliesRadiusAndDateWindow() {
+        User author = User.builder()
+                .userId("author")
+                .nickname("작성자")
+                .passwordHash("temp_hash")
+                .build();
+        entityManager.persist(author);
+        persistContents(author, 2);
+        // 약 2km 북쪽 (반경 밖)
+        entityManager.persist(Content.builder()
+                .title("먼 글")
+                .content("내용")
+                .author(author)
+                .postType(PostType.FREE)
+                .latitude(BigDecimal.valueOf(LAT + 0.018))
+                .longitude(BigDecimal.valueOf(LNG))
+                .build());
+        entityManager.flush();
+        entityManager.clear();
+
+        assertEquals(2, findSnapshots(today).size());
+        assertTrue(findSnapshots(today.minusDays(1)).isEmpty());
+    }
+
+    @Test
+    void rowsAreGroupedIntoOneSnapshotPerContent() {
+        User author = User.builder()
+                .userId("author")
+                .nickname("작성자")
+                .passwordHash("temp_hash")
+                .build();
+        entityManager.persist(author);
+        persistContents(author, 3);
+
+        entityManager.flush();
+        entityManager.clear();
+        List<MapContentSnapshot> snapshots = findSnapshots(today);
+
+        assertEquals(3, snapshots.size());
+        for (MapContentSnapshot snapshot : snapshots) {
+            assertEquals("작성자", snapshot.getNickname());
+            assertEquals(2, snapshot.getThumbnailUrls().size());
+            assertTrue(snapshot.getFirstAttachmentUrl().endsWith("/0.jpg"));
+        }
+    }
+
+    @Test
+    void hotContentLookupLoadsAuthorAndAttachmentsInOneStatement() {
+        User author = User.builder()
+                .userId("author")
+                .nickname("작성자")
+                .passwordHash("temp_hash")
+                .build();
+        entityManager.persist(author);
+        persistContents(author, 5);
+        entityManager.flush();
+        List<Long> contentIds = contentRepository.findAll().stream().map(Content::getContentId).toList();
+        entityManager.clear();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        List<Content> contents = contentRepository.findWithAuthorAndAttachmentsByContentIdIn(contentIds);
+        // 인기 게시글 변환에서 읽는 연관관계 접근
+        contents.forEach(content -> {
+            assertEquals("작성자", content.getAuthor().getNickname());
+            assertEquals(2, content.getAttachments().size());
+        });
+
+        assertEquals(5, contents.size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    private long countStatementsForMapQuery() {
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        List<MapContentSnapshot> snapshots = findSnapshots(today);
+        // 변환 단계에서 추가 쿼리가 없는지 확인하기 위해 모든 필드 접근
+        snapshots.forEach(snapshot -> {
+            assertNotNull(snapshot.getNickname());
+            assertNotNull(snapshot.getThumbnailUrls());
+        });
+
+        return statistics.getPrepareStatementCount();
+    }
+
+    private List<MapContentSnapshot> findSnapshots(LocalDate campusDate) {
+        return MapContentSnapshot.fromRows(contentRepository.findMapRowsNearby(LAT, LNG, RADIUS_METERS,
+                CampusDateUtil.getCampusDateStartTime(campusDate), CampusDateUtil.getCampusDateEndTime(campusDate),
+                null));
+    }
+
+    private void persistContents(User author, int count) {
+        for (int i = 0; i < count; i++) {
+            Content content = Content.builder()
+                    .title("제목 " + i)
+                    .content("내용 " + i)
+                    .author(author)
+                    .postType(PostType.FREE)
+                    .latitude(BigDecimal.valueOf(LAT + i * 0.00001))
+                    .longitude(BigDecimal.valueOf(LNG))
+                    .build();
+            entityManager.persist(content);
+
+            for (int idx = 0; idx < 2; idx++) {
+                entityManager.persist(Attachment.builder()
+                        .content(content)
+                        .originalName(idx + ".jpg")
+                        .fileType("image/jpeg")
+                        .fileSize(1)
+                        .url("https://bucket/images/contents/" + idx + ".jpg")
+                        .thumbnailUrl("https://bucket/thumbnails/contents/" + idx + "_thumb.jpg")
+                        .idx(idx + 1)
+                        .build());
+            }
+        }
+    }
+}
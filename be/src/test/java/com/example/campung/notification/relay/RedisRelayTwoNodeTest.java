@@ -0,0 +1,192 @@
+package com.example.campung.notification.relay;
+
+import com.example.campung.main.dto.MapIndexEvent;
+import com.example.campung.main.service.MapIndexRelay;
+import com.example.campung.notification.dto.NewPostEvent;
+import com.example.campung.notification.service.TopicBroadcaster;
+import com.example.campung.notification.service.TopicSubscriptionRegistry;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import redis.embedded.RedisServer;
+
+import java.net.ServerSocket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 내장 Redis 하나에 두 노드를 붙여 노드 간 중계가 노드마다 정확히 1번 전달되는지 확인
+ * 지도 인덱스 변경 이벤트는 다른 노드에만 전달되고 STOMP 구독자에게는 나가지 않는지 확인
+ */
+class RedisRelayTwoNodeTest {
+
+    private static final String TOPIC = "/topic/newpost/wydm6";
+
+    private RedisServer redisServer;
+    private final List<Node> nodes = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        redisServer = new RedisServer(port);
+        redisServer.start();
+
+        nodes.add(new Node("node-a", port));
+        nodes.add(new Node("node-b", port));
+        // 리스너 컨테이너의 채널 구독이 완료될 때까지 대기
+        Thread.sleep(500);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        for (Node node : nodes) {
+            node.close();
+        }
+        redisServer.stop();
+    }
+
+    @Test
+    void eachNodeDeliversExactlyOnceToItsSubscribers() throws Exception {
+        Node nodeA = nodes.get(0);
+        Node nodeB = nodes.get(1);
+        nodeA.subscribe(TOPIC);
+        nodeB.subscribe(TOPIC);
+
+        int localDelivered = nodeA.broadcaster.broadcast(
+                List.of(TOPIC, "/topic/newpost/wydm"), new NewPostEvent(1L, 37.5, 127.0, 1000L));
+
+        assertThat(localDelivered).isEqualTo(1);
+        nodeB.awaitMessages(1);
+        // 자기 자신에게 돌아온 중계 메시지로 중복 전송되지 않는지 확인할 여유
+        Thread.sleep(300);
+
+        assertThat(nodeA.sent).hasSize(1);
+        assertThat(nodeB.sent).hasSize(1);
+        assertThat(destination(nodeB.sent.get(0))).isEqualTo(TOPIC);
+        assertThat(new String((byte[]) nodeB.sent.get(0).getPayload(), StandardCharsets.UTF_8))
+                .isEqualTo(new String((byte[]) nodeA.sent.get(0).getPayload(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void nodesWithoutSubscribersSendNothing() throws Exception {
+        Node nodeA = nodes.get(0);
+        Node nodeB = nodes.get(1);
+        nodeB.subscribe(TOPIC);
+
+        int localDelivered = nodeA.broadcaster.broadcast(
+                List.of(TOPIC), new NewPostEvent(2L, 37.5, 127.0, 1000L));
+
+        assertThat(localDelivered).isZero();
+        nodeB.awaitMessages(1);
+        Thread.sleep(300);
+
+        assertThat(nodeA.sent).isEmpty();
+        assertThat(nodeB.sent).hasSize(1);
+    }
+
+    @Test
+    void mapIndexEventsReachOtherNodesButNotStompClients() throws Exception {
+        Node nodeA = nodes.get(0);
+        Node nodeB = nodes.get(1);
+        // 클라이언트가 내부 목적지를 구독해도 전달되지 않아야 함
+        nodeB.subscribe(RelayMessage.INTERNAL_PREFIX + "map-index");
+
+        nodeA.mapIndexRelay.publish(MapIndexEvent.likeCount(3L, 7));
+
+        long deadline = System.currentTimeMillis() + 5000;
+        while (nodeB.indexEvents.isEmpty() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        Thread.sleep(300);
+
+        assertThat(nodeB.indexEvents).containsExactly(MapIndexEvent.likeCount(3L, 7));
+        assertThat(nodeA.indexEvents).isEmpty();
+        assertThat(nodeA.sent).isEmpty();
+        assertThat(nodeB.sent).isEmpty();
+    }
+
+    private static String destination(Message<?> message) {
+        return SimpMessageHeaderAccessor.getDestination(message.getHeaders());
+    }
+
+    private static class Node {
+
+        private final LettuceConnectionFactory connectionFactory;
+        private final RedisMessageListenerContainer container;
+        private final TopicSubscriptionRegistry registry = new TopicSubscriptionRegistry();
+        private final List<Message<?>> sent = new CopyOnWriteArrayList<>();
+        private final TopicBroadcaster broadcaster;
+        private final MapIndexRelay mapIndexRelay;
+        private final List<MapIndexEvent> indexEvents = new CopyOnWriteArrayList<>();
+        private int subscriptionSeq;
+
+        Node(String nodeId, int port) throws Exception {
+            connectionFactory = new LettuceConnectionFactory("localhost", port);
+            connectionFactory.afterPropertiesSet();
+            connectionFactory.start();
+
+            container = new RedisMessageListenerContainer();
+            container.setConnectionFactory(connectionFactory);
+            container.afterPropertiesSet();
+            container.start();
+
+            StringRedisTemplate template = new StringRedisTemplate(connectionFactory);
+            ObjectMapper objectMapper = new ObjectMapper();
+            ClusterMessageTransport transport = new RedisClusterMessageTransport(
+                    template, container, objectMapper, RedisClusterMessageTransport.DEFAULT_CHANNEL);
+
+            // 클라이언트 아웃바운드 채널 대신 전송된 메시지를 기록
+            MessageChannel channel = (message, timeout) -> sent.add(message);
+            SimpMessagingTemplate messagingTemplate = new SimpMessagingTemplate(channel);
+            messagingTemplate.setMessageConverter(new MappingJackson2MessageConverter());
+
+            broadcaster = new TopicBroadcaster(messagingTemplate, registry, transport, objectMapper, nodeId);
+            broadcaster.init();
+
+            mapIndexRelay = new MapIndexRelay(transport, broadcaster, objectMapper);
+            mapIndexRelay.subscribe(indexEvents::add);
+        }
+
+        void subscribe(String destination) {
+            StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+            accessor.setSessionId("session-" + destination.hashCode());
+            accessor.setSubscriptionId("sub-" + subscriptionSeq++);
+            accessor.setDestination(destination);
+            Message<byte[]> message = MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+            registry.onSubscribe(new SessionSubscribeEvent(this, message));
+        }
+
+        void awaitMessages(int count) throws InterruptedException {
+            long deadline = System.currentTimeMillis() + 5000;
+            while (sent.size() < count && System.currentTimeMillis() < deadline) {
+                Thread.sleep(20);
+            }
+        }
+
+        void close() throws Exception {
+            container.stop();
+            container.destroy();
+            connectionFactory.destroy();
+        }
+    }
+}
@@ -0,0 +1,81 @@
+-- Map record lookup benchmark (MariaDB, uses the SEQUENCE engine)
+-- Seeds a fixed slice of today's record rows plus a growing history spread over
+-- the previous 59 days, and measures the bounded query used by
+-- MapContentService.findRecordsByLocationAndDate.
+-- Run against a scratch database after the application has created the schema:
+--   mariadb -u campung -p campung_bench < record_map_lookup_benchmark.sql
+-- Today's row count is held at @today_rows while the history grows from 1k to 1M,
+-- so "r_total_time_ms" of each ANALYZE FORMAT=JSON output should stay flat:
+-- only today's slice of the index is read, however large the table gets.
+
+INSERT IGNORE INTO user (user_id, nickname, password_hash)
+VALUES ('bench-user', 'bench-user', 'temp_hash');
+SET @uid = (SELECT id FROM user WHERE user_id = 'bench-user');
+
+-- Campus day window (05:00 ~ next day 04:59:59) and a 500m search box
+SET @start = IF(HOUR(NOW()) < 5, CURDATE() - INTERVAL 1 DAY, CURDATE()) + INTERVAL 5 HOUR;
+SET @end = @start + INTERVAL 1 DAY - INTERVAL 1 SECOND;
+SET @lat = 36.1070, @lng = 128.4160, @d = (0.5 * 2) / 111.32;
+SET @today_rows = 1000;
+
+DELIMITER //
+CREATE OR REPLACE PROCEDURE seed_records(IN history INT)
+BEGIN
+    DELETE FROM record WHERE user_id = @uid;
+    -- Today's slice: always @today_rows rows inside the campus day window
+    INSERT INTO record (user_id, record_url, latitude, longitude, created_at)
+    SELECT @uid,
+           CONCAT('https://bench/audios/today-', seq, '.m4a'),
+           36.1070 + (RAND(seq) - 0.5) * 0.05,
+           128.4160 + (RAND(seq + 1) - 0.5) * 0.05,
+           @start + INTERVAL FLOOR(RAND(seq + 2) * 24 * 60) MINUTE
+    FROM seq_1_to_1000000
+    WHERE seq <= @today_rows;
+    -- History: grows with each call, always before today's window
+    INSERT INTO record (user_id, record_url, latitude, longitude, created_at)
+    SELECT @uid,
+           CONCAT('https://bench/audios/', seq, '.m4a'),
+           36.1070 + (RAND(seq + 3) - 0.5) * 0.05,
+           128.4160 + (RAND(seq + 4) - 0.5) * 0.05,
+           @start - INTERVAL 1 MINUTE - INTERVAL FLOOR(RAND(seq + 5) * 59 * 24 * 60) MINUTE
+    FROM seq_1_to_1000000
+    WHERE seq <= history;
+    ANALYZE TABLE record;
+END //
+DELIMITER ;
+
+CALL seed_records(1000);
+ANALYZE FORMAT=JSON
+SELECT r.*, u.* FROM record r JOIN user u ON u.id = r.user_id
+WHERE r.created_at BETWEEN @start AND @end
+  AND r.latitude BETWEEN @lat - @d AND @lat + @d
+  AND r.longitude BETWEEN @lng - @d / COS(RADIANS(@lat)) AND @lng + @d / COS(RADIANS(@lat))
+ORDER BY r.created_at DESC;
+
+CALL seed_records(10000);
+ANALYZE FORMAT=JSON
+SELECT r.*, u.* FROM record r JOIN user u ON u.id = r.user_id
+WHERE r.created_at BETWEEN @start AND @end
+  AND r.latitude BETWEEN @lat - @d AND @lat + @d
+  AND r.longitude BETWEEN @lng - @d / COS(RADIANS(@lat)) AND @lng + @d / COS(RADIANS(@lat))
+ORDER BY r.created_at DESC;
+
+CALL seed_records(100000);
+ANALYZE FORMAT=JSON
+SELECT r.*, u.* FROM record r JOIN user u ON u.id = r.user_id
+WHERE r.created_at BETWEEN @start AND @end
+  AND r.latitude BETWEEN @lat - @d AND @lat + @d
+  AND r.longitude BETWEEN @lng - @d / COS(RADIANS(@lat)) AND @lng + @d / COS(RADIANS(@lat))
+ORDER BY r.created_at DESC;
+
+CALL seed_records(1000000);
+ANALYZE FORMAT=JSON
+SELECT r.*, u.* FROM record r JOIN user u ON u.id = r.user_id
+WHERE r.created_at BETWEEN @start AND @end
+  AND r.latitude BETWEEN @lat - @d AND @lat + @d
+  AND r.longitude BETWEEN @lng - @d / COS(RADIANS(@lat)) AND @lng + @d / COS(RADIANS(@lat))
+ORDER BY r.created_at DESC;
+
+-- Cleanup
+DELETE FROM record WHERE user_id = @uid;
+DROP PROCEDURE seed_records;
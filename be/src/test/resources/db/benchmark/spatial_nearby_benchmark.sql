@@ -0,0 +1,79 @@
+-- Nearby lookup benchmark: Haversine full scan vs SPATIAL envelope + ST_Distance_Sphere
+-- (MariaDB, uses the SEQUENCE engine)
+-- Run against a scratch database after add_spatial_location_columns.sql:
+--   mariadb -u campung -p campung_bench < spatial_nearby_benchmark.sql
+-- Compare "r_total_time_ms" and "r_rows" of each before/after pair: the Haversine
+-- query reads every row, the envelope query only the index range around the point.
+
+INSERT IGNORE INTO user (user_id, nickname, password_hash)
+VALUES ('bench-user', 'bench-user', 'temp_hash');
+SET @uid = (SELECT id FROM user WHERE user_id = 'bench-user');
+
+DELIMITER //
+CREATE OR REPLACE PROCEDURE seed_contents(IN total INT)
+BEGIN
+    DELETE FROM content WHERE author_id = @uid;
+    INSERT INTO content (title, content, author_id, post_type, status, latitude, longitude, location,
+                         is_anonymous, like_count, comment_count, is_hot, created_at)
+    SELECT CONCAT('bench ', seq), 'bench', @uid, 'FREE', 'board', lat, lng, POINT(lng, lat),
+           0, 0, 0, 0, NOW() - INTERVAL FLOOR(RAND(seq + 2) * 48 * 60) MINUTE
+    FROM (SELECT seq,
+                 36.1070 + (RAND(seq) - 0.5) * 0.2 AS lat,
+                 128.4160 + (RAND(seq + 1) - 0.5) * 0.2 AS lng
+          FROM seq_1_to_1000000 WHERE seq <= total) s;
+    ANALYZE TABLE content;
+END //
+DELIMITER ;
+
+-- 300m around the student union, same envelope as GeoDistanceUtil.envelopeWkt
+SET @lat = 36.1070, @lng = 128.4160, @r = 300;
+SET @dlat = (@r / 1000) / 111.32;
+SET @dlng = @dlat / COS(RADIANS(@lat)) * 1.01;
+SET @envelope = CONCAT('POLYGON((',
+    @lng - @dlng, ' ', @lat - @dlat, ', ', @lng + @dlng, ' ', @lat - @dlat, ', ',
+    @lng + @dlng, ' ', @lat + @dlat, ', ', @lng - @dlng, ' ', @lat + @dlat, ', ',
+    @lng - @dlng, ' ', @lat - @dlat, '))');
+
+CALL seed_contents(10000);
+-- before
+ANALYZE FORMAT=JSON
+SELECT c.title, c.content,
+       (6371000 * acos(cos(radians(@lat)) * cos(radians(CAST(c.latitude AS DOUBLE))) *
+                      cos(radians(CAST(c.longitude AS DOUBLE)) - radians(@lng)) +
+                      sin(radians(@lat)) * sin(radians(CAST(c.latitude AS DOUBLE))))) AS distance
+FROM content c
+WHERE c.created_at >= DATE_SUB(NOW(), INTERVAL 24 HOUR)
+HAVING distance <= @r
+ORDER BY c.created_at DESC;
+-- after
+ANALYZE FORMAT=JSON
+SELECT c.title, c.content, ST_Distance_Sphere(c.location, POINT(@lng, @lat)) AS distance
+FROM content c
+WHERE MBRContains(ST_GeomFromText(@envelope), c.location)
+  AND c.created_at >= DATE_SUB(NOW(), INTERVAL 24 HOUR)
+HAVING distance <= @r
+ORDER BY c.created_at DESC;
+
+CALL seed_contents(1000000);
+-- before
+ANALYZE FORMAT=JSON
+SELECT c.title, c.content,
+       (6371000 * acos(cos(radians(@lat)) * cos(radians(CAST(c.latitude AS DOUBLE))) *
+                      cos(radians(CAST(c.longitude AS DOUBLE)) - radians(@lng)) +
+                      sin(radians(@lat)) * sin(radians(CAST(c.latitude AS DOUBLE))))) AS distance
+FROM content c
+WHERE c.created_at >= DATE_SUB(NOW(), INTERVAL 24 HOUR)
+HAVING distance <= @r
+ORDER BY c.created_at DESC;
+-- after
+ANALYZE FORMAT=JSON
+SELECT c.title, c.content, ST_Distance_Sphere(c.location, POINT(@lng, @lat)) AS distance
+FROM content c
+WHERE MBRContains(ST_GeomFromText(@envelope), c.location)
+  AND c.created_at >= DATE_SUB(NOW(), INTERVAL 24 HOUR)
+HAVING distance <= @r
+ORDER BY c.created_at DESC;
+
+-- Cleanup
+DELETE FROM content WHERE author_id = @uid;
+DROP PROCEDURE seed_contents;
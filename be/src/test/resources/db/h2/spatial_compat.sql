@@ -0,0 +1,19 @@
+-- H2 stand-ins for the MariaDB spatial type/functions used by the entity location columns
+-- (the location value is kept as WKT text; ST_Distance_Sphere parses "POINT(lng lat)" and
+-- returns the great-circle distance in meters like MariaDB, MBRContains is not provided)
+CREATE DOMAIN IF NOT EXISTS POINT AS VARCHAR(64);
+CREATE ALIAS IF NOT EXISTS ST_GeomFromText AS 'String geomFromText(String wkt) { return wkt; }';
+CREATE ALIAS IF NOT EXISTS ST_AsText AS 'String asText(String wkt) { return wkt; }';
+CREATE ALIAS IF NOT EXISTS ST_Distance_Sphere AS $$
+double distanceSphere(String from, String to) {
+    String[] a = from.substring(from.indexOf('(') + 1, from.indexOf(')')).trim().split("\\s+");
+    String[] b = to.substring(to.indexOf('(') + 1, to.indexOf(')')).trim().split("\\s+");
+    double lng1 = Math.toRadians(Double.parseDouble(a[0]));
+    double lat1 = Math.toRadians(Double.parseDouble(a[1]));
+    double lng2 = Math.toRadians(Double.parseDouble(b[0]));
+    double lat2 = Math.toRadians(Double.parseDouble(b[1]));
+    double h = Math.pow(Math.sin((lat2 - lat1) / 2), 2)
+            + Math.cos(lat1) * Math.cos(lat2) * Math.pow(Math.sin((lng2 - lng1) / 2), 2);
+    return 2 * 6370986 * Math.asin(Math.sqrt(h));
+}
+$$;